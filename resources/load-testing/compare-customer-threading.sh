@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+#
+# Compara o customer-service com o pool de platform threads padrão do Tomcat e com o perfil 'virtual-threads',
+# rodando o mesmo cenário de carga (customer-load.js) contra cada modo e imprimindo throughput e latência p99.
+#
+# Pré-requisitos: JDK 21+ no PATH (ou JAVA_HOME), k6, jq, o config-server em execução e MONGODB_URI definido.
+# Variáveis opcionais: VUS (padrão 400), DURATION (padrão 2m), SEED (padrão 1000), PORT (padrão 9091).
+#
+# Os eventos de pinning aparecem nos logs de cada execução (target/load-testing/<modo>.log), tanto pelo
+# -Djdk.tracePinnedThreads quanto pelo VirtualThreadPinningMonitor.
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+SERVICE="$ROOT/service/customer"
+OUT="$SERVICE/target/load-testing"
+PORT="${PORT:-9091}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+"$JAVA" -version 2>&1 | grep -qE 'version "(2[1-9]|[3-9][0-9])' || { echo "É necessário um JDK 21+ para o modo com virtual threads." >&2; exit 1; }
+
+mvn -f "$SERVICE/pom.xml" -B -q package -DskipTests
+JAR="$SERVICE/target/customer-0.0.1-SNAPSHOT-exec.jar"
+mkdir -p "$OUT"
+
+run_mode() {
+  local mode="$1" profiles="$2"
+  echo ">> $mode"
+  "$JAVA" -Djdk.tracePinnedThreads=short -jar "$JAR" \
+      --server.port="$PORT" --spring.profiles.active="$profiles" > "$OUT/$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    kill -0 "$pid" 2>/dev/null || { echo "O serviço não subiu; veja $OUT/$mode.log" >&2; exit 1; }
+    sleep 1
+  done
+
+  k6 run --quiet --summary-export "$OUT/$mode.json" \
+      -e BASE_URL="http://localhost:$PORT" -e VUS="${VUS:-400}" -e DURATION="${DURATION:-2m}" -e SEED="${SEED:-1000}" \
+      "$ROOT/resources/load-testing/customer-load.js"
+
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform default
+run_mode virtual-threads virtual-threads
+
+printf '\n%-16s %12s %10s %10s %10s\n' modo 'req/s' 'p50 (ms)' 'p99 (ms)' 'falhas'
+for mode in platform virtual-threads; do
+  jq -r --arg mode "$mode" '[
+      $mode,
+      (.metrics.http_reqs.rate | floor),
+      (.metrics.http_req_duration["p(50)"] | . * 10 | round / 10),
+      (.metrics.http_req_duration["p(99)"] | . * 10 | round / 10),
+      (.metrics.http_req_failed.value * 100 | . * 100 | round / 100 | tostring + "%")
+    ] | @tsv' "$OUT/$mode.json" | awk -F'\t' '{ printf "%-16s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+done
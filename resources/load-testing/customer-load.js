@@ -0,0 +1,67 @@
+// Cenário de carga do customer-service (k6 — https://k6.io).
+//
+// Exercita os endpoints do CustomerController com uma mistura de leituras e escritas e uma concorrência acima do
+// pool padrão do Tomcat (200 threads), para comparar platform threads com virtual threads. Normalmente é executado
+// por compare-customer-threading.sh, mas pode ser usado isoladamente:
+//
+//   k6 run -e BASE_URL=http://localhost:9091 -e VUS=400 -e DURATION=2m customer-load.js
+
+import http from 'k6/http';
+import {check} from 'k6';
+
+const BASE_URL = `${__ENV.BASE_URL || 'http://localhost:9091'}/api/v1/customer`;
+const SEED = Number(__ENV.SEED || 1000);
+const JSON_HEADERS = {headers: {'Content-Type': 'application/json'}};
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 400),
+            duration: __ENV.DURATION || '2m',
+            gracefulStop: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const runId = Date.now();
+    const customers = [];
+    for (let i = 0; i < SEED; i++) {
+        customers.push({
+            firstName: `Load${i}`,
+            lastName: 'Test',
+            email: `load-${runId}-${i}@example.com`,
+            address: {street: 'Rua A', city: 'São Paulo', state: 'SP', zip: '01000-000', country: 'BR'},
+        });
+    }
+    const bulk = http.post(`${BASE_URL}/bulk`, JSON.stringify(customers), JSON_HEADERS);
+    check(bulk, {'seed created': (r) => r.status === 200});
+    // Cada resultado traz a posição do cliente no lote: o par (id, email) é montado por ela, e não pela posição na
+    // lista filtrada, para continuar alinhado mesmo que algum cliente do lote falhe.
+    const results = bulk.json('results') || [];
+    return {
+        customers: results.filter((r) => r.id).map((r) => ({id: r.id, email: customers[r.index].email})),
+    };
+}
+
+export default function (data) {
+    const {id, email} = data.customers[Math.floor(Math.random() * data.customers.length)];
+    const roll = Math.random();
+
+    if (roll < 0.45) {
+        check(http.get(`${BASE_URL}/${id}`, {tags: {name: 'GET /{id}'}}), {'get 200': (r) => r.status === 200});
+    } else if (roll < 0.65) {
+        check(http.get(`${BASE_URL}/exits/${id}`, {tags: {name: 'GET /exits/{id}'}}), {'exists 200': (r) => r.status === 200});
+    } else if (roll < 0.80) {
+        check(http.get(`${BASE_URL}/by-email?email=${encodeURIComponent(email)}`, {tags: {name: 'GET /by-email'}}),
+            {'by-email 200': (r) => r.status === 200});
+    } else if (roll < 0.90) {
+        check(http.get(`${BASE_URL}?limit=50`, {tags: {name: 'GET /'}}), {'page 200': (r) => r.status === 200});
+    } else {
+        const body = JSON.stringify({address: {city: `Cidade ${Math.floor(Math.random() * 100)}`}});
+        check(http.patch(`${BASE_URL}/${id}`, body, Object.assign({tags: {name: 'PATCH /{id}'}}, JSON_HEADERS)),
+            {'patch 200': (r) => r.status === 200});
+    }
+}
@@ -0,0 +1,31 @@
+package org.restful.customer.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do {@code benchmarks.jar}. Aceita os mesmos argumentos da linha de comando do JMH e sempre
+ * ativa o {@link GCProfiler}, para que cada resultado venha acompanhado da alocação por operação
+ * ({@code gc.alloc.rate.norm}).
+ * <pre>
+ * mvn -f ../customer install -DskipTests
+ * mvn package
+ * java -jar target/benchmarks.jar                      # todos os benchmarks
+ * java -jar target/benchmarks.jar CustomerJson -rf json # apenas um grupo, com resultado em jmh-result.json
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) options.include(BenchmarkRunner.class.getPackageName());
+
+        new Runner(options.addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package org.restful.customer.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import org.openjdk.jmh.annotations.*;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+/**
+ * Compara JSON com os formatos binários do Jackson (Smile, o adotado pelos serviços, e CBOR) na codificação e
+ * decodificação de listas de {@link CustomerResponse}. O tamanho do payload, puro e com gzip (como sai com
+ * {@code server.compression}), é impresso no setup de cada combinação de parâmetros.
+ */
+@State(Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerBinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<CustomerResponse> customers;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        CollectionType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, CustomerResponse.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+        customers = CustomerFixtures.responses(size);
+        payload = writer.writeValueAsBytes(customers);
+
+        System.out.printf("%n%s, %d clientes: %d bytes (%d bytes com gzip)%n", format, size, payload.length, gzipped(payload));
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(customers);
+    }
+
+    @Benchmark
+    public List<CustomerResponse> decode() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    private static int gzipped(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        }
+        return compressed.size();
+    }
+}
@@ -0,0 +1,35 @@
+package org.restful.customer.benchmark;
+
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.restful.customer.customer.entity.Address;
+import org.restful.customer.customer.entity.Customer;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.bson.types.ObjectId.get;
+
+final class CustomerFixtures {
+
+    private CustomerFixtures() {
+    }
+
+    static Address address() {
+        return new Address("Avenida Paulista, 1000", "São Paulo", "SP", "01310-100", "BR");
+    }
+
+    static CustomerRequest request() {
+        return new CustomerRequest(null, "Maria", "Silva", "maria.silva@example.com", address());
+    }
+
+    static Customer customer() {
+        return new Customer(get().toHexString(), "Maria", "Silva", "maria.silva@example.com", address(), 3L);
+    }
+
+    static List<CustomerResponse> responses(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new CustomerResponse(get().toHexString(), "Maria", "Silva " + i, "maria" + i + "@example.com", address(), (long) i))
+                .toList();
+    }
+}
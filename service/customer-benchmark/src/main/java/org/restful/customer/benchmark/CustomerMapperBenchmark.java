@@ -0,0 +1,40 @@
+package org.restful.customer.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.restful.customer.customer.entity.Customer;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+@State(Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMapperBenchmark {
+
+    private final CustomerMapper customerMapper = new CustomerMapper();
+    private CustomerRequest request;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        request = CustomerFixtures.request();
+        customer = CustomerFixtures.customer();
+    }
+
+    @Benchmark
+    public Customer toCustomer() {
+        return customerMapper.toCustomer(request);
+    }
+
+    @Benchmark
+    public CustomerResponse fromCustomer() {
+        return customerMapper.fromCustomer(customer);
+    }
+}
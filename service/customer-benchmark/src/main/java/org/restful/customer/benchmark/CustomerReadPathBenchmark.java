@@ -0,0 +1,99 @@
+package org.restful.customer.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.impl.RawBsonJson;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+/**
+ * Compara, para um documento já recebido do driver, o caminho de leitura mapeado
+ * (BSON → Document → Customer → CustomerResponse → Jackson) com o modo {@code customer.read.raw-json}
+ * (BSON bruto, já projetado pelo servidor, → JSON).
+ */
+@State(Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerReadPathBenchmark {
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private final CustomerMapper customerMapper = new CustomerMapper();
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private MappingMongoConverter converter;
+    private ObjectMapper objectMapper;
+    private RawBsonDocument stored;
+    private RawBsonDocument projected;
+
+    @Setup
+    public void setUp() {
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        ObjectId id = new ObjectId();
+        Document address = new Document("street", "Avenida Paulista, 1000")
+                .append("city", "São Paulo")
+                .append("state", "SP")
+                .append("zip", "01310-100")
+                .append("country", "BR");
+        stored = new RawBsonDocument(new Document("_id", id)
+                .append("firstname", "Maria")
+                .append("lastname", "Silva")
+                .append("email", "maria.silva@example.com")
+                .append("address", address)
+                .append("version", 3L)
+                .append("_class", Customer.class.getName()), documentCodec);
+        projected = new RawBsonDocument(new Document("id", id.toHexString())
+                .append("firstName", "Maria")
+                .append("lastName", "Silva")
+                .append("email", "maria.silva@example.com")
+                .append("address", address)
+                .append("version", 3L), documentCodec);
+    }
+
+    @Benchmark
+    public void mapped() throws IOException {
+        Document document = documentCodec.decode(new BsonBinaryReader(stored.getByteBuffer().asNIO()), DECODER_CONTEXT);
+        Customer customer = converter.read(Customer.class, document);
+        objectMapper.writeValue(sink, customerMapper.fromCustomer(customer));
+    }
+
+    @Benchmark
+    public void rawJson() throws IOException {
+        try (JsonGenerator generator = RawBsonJson.createGenerator(sink)) {
+            RawBsonJson.write(projected, generator);
+        }
+    }
+}
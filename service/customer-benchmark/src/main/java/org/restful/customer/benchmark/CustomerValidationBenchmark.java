@@ -0,0 +1,51 @@
+package org.restful.customer.benchmark;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.restful.customer.customer.dto.CustomerRequest;
+
+import java.util.Set;
+
+import static jakarta.validation.Validation.buildDefaultValidatorFactory;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+@State(Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CustomerRequest valid;
+    private CustomerRequest invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = CustomerFixtures.request();
+        invalid = new CustomerRequest(null, null, "Silva", "not-an-email", CustomerFixtures.address());
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequest>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerRequest>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,75 @@
+package org.restful.customer.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.restful.customer.customer.controller.CustomerController;
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.exception.CustomerNotFoundException;
+import org.restful.customer.exception.DuplicateEntryException;
+import org.restful.customer.handler.ErrorDetails;
+import org.restful.customer.handler.GlobalExceptionHandler;
+import org.restful.customer.handler.ValidationErrorDetails;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+/**
+ * Mede o caminho de erro completo: construção da exceção (como faz o serviço) e montagem da resposta pelo handler.
+ */
+@State(Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest webRequest;
+    private MethodParameter createCustomerBody;
+    private String customerId;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/customer/6553f1c2a4b5c6d7e8f90123"));
+        createCustomerBody = new MethodParameter(CustomerController.class.getMethod("createCustomer", CustomerRequest.class), 0);
+        customerId = "6553f1c2a4b5c6d7e8f90123";
+    }
+
+    @Benchmark
+    public ResponseEntity<List<ErrorDetails>> customerNotFound() {
+        return handler.handleCustomerNotFoundException(
+                new CustomerNotFoundException(format("Customer with id %s not found", customerId)),
+                webRequest
+        );
+    }
+
+    @Benchmark
+    public ResponseEntity<List<ErrorDetails>> duplicateEntry() {
+        return handler.handleDuplicateEntryException(
+                new DuplicateEntryException("Customer with email maria.silva@example.com already exists"),
+                webRequest
+        );
+    }
+
+    @Benchmark
+    public ResponseEntity<List<ValidationErrorDetails>> validationFailure() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(CustomerFixtures.request(), "customerRequest");
+        bindingResult.addError(new FieldError("customerRequest", "email", "Email is invalid"));
+        bindingResult.addError(new FieldError("customerRequest", "firstName", "First name is required"));
+        return handler.handleValidationException(new MethodArgumentNotValidException(createCustomerBody, bindingResult), webRequest);
+    }
+}
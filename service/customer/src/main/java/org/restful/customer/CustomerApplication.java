@@ -1,9 +1,13 @@
 package org.restful.customer;
 
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import static org.springframework.boot.SpringApplication.run;
 
+@EnableAsync
+@EnableScheduling
 @SpringBootApplication
 public class CustomerApplication {
 
@@ -0,0 +1,189 @@
+package org.restful.customer;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import io.github.cdimascio.dotenv.Dotenv;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.mongodb.MongoClientSettings.builder;
+import static com.mongodb.client.MongoClients.create;
+import static io.github.cdimascio.dotenv.Dotenv.configure;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.bson.json.JsonMode.EXTENDED;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Exporta a coleção de clientes para um arquivo NDJSON (um documento em Extended JSON canônico por linha, o que
+ * preserva ObjectId, datas e inteiros de 64 bits) e importa esse arquivo de volta. Arquivos terminados em
+ * {@code .gz} são comprimidos/descomprimidos com gzip durante a transferência.
+ * <p>
+ * A exportação percorre um cursor e a importação lê linha a linha, gravando em blocos com {@code bulkWrite} não
+ * ordenado; em ambos os casos o consumo de memória não depende do tamanho da coleção. Como o
+ * {@link ModifyCollections}, lê {@code MONGODB_URI} e {@code DB_NAME} do arquivo {@code mongo.env}.
+ * <p>
+ * Uso: {@code TransferCustomerCollection export|import <arquivo> [coleção]}
+ */
+public class TransferCustomerCollection {
+
+    private static final String MONGODB_URI = "MONGODB_URI";
+    private static final String DB_NAME = "DB_NAME";
+    private static final String ENVOLROLMENT = "mongo.env";
+    private static final String DEFAULT_COLLECTION = "customer";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int PROGRESS_INTERVAL = 100_000;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder().outputMode(EXTENDED).build();
+
+    private static final Logger logger = getLogger(TransferCustomerCollection.class);
+
+    public static void main(String[] args) {
+        if (args.length < 2 || !(args[0].equals("export") || args[0].equals("import"))) {
+            logger.error("Uso: TransferCustomerCollection export|import <arquivo> [coleção]");
+            return;
+        }
+
+        Dotenv dotenv = configure()
+                .filename(ENVOLROLMENT)
+                .load();
+        String uri = dotenv.get(MONGODB_URI);
+        String dbName = dotenv.get(DB_NAME);
+
+        if (uri == null || dbName == null) {
+            logger.error("As variáveis de ambiente MONGODB_URI e DB_NAME devem estar definidas no arquivo mongo.env.");
+            return;
+        }
+
+        Path file = Path.of(args[1]);
+        String collectionName = args.length > 2 ? args[2] : DEFAULT_COLLECTION;
+
+        try (MongoClient mongoClient = create(builder().applyConnectionString(new ConnectionString(uri)).build())) {
+            MongoCollection<RawBsonDocument> collection = mongoClient.getDatabase(dbName)
+                    .getCollection(collectionName, RawBsonDocument.class);
+
+            if (args[0].equals("export")) exportCollection(collection, file);
+            else importCollection(collection, file);
+        } catch (Exception e) {
+            logger.error("Erro ao transferir a coleção '{}': ", collectionName, e);
+        }
+    }
+
+    static void exportCollection(MongoCollection<RawBsonDocument> collection, Path file) throws IOException {
+        RawBsonDocumentCodec codec = new RawBsonDocumentCodec();
+        EncoderContext encoderContext = EncoderContext.builder().build();
+        Progress progress = new Progress("exportados");
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(open(file), UTF_8), BUFFER_SIZE);
+             MongoCursor<RawBsonDocument> cursor = collection.find().batchSize(BATCH_SIZE).cursor()) {
+            while (cursor.hasNext()) {
+                codec.encode(new JsonWriter(writer, JSON_SETTINGS), cursor.next(), encoderContext);
+                writer.write('\n');
+                progress.add(1);
+            }
+        }
+        progress.finish();
+    }
+
+    static void importCollection(MongoCollection<RawBsonDocument> collection, Path file) throws IOException {
+        BulkWriteOptions options = new BulkWriteOptions().ordered(false);
+        List<InsertOneModel<RawBsonDocument>> chunk = new ArrayList<>(BATCH_SIZE);
+        Progress progress = new Progress("importados");
+        long failed = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(read(file), UTF_8), BUFFER_SIZE)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) continue;
+                chunk.add(new InsertOneModel<>(RawBsonDocument.parse(line)));
+                if (chunk.size() == BATCH_SIZE) {
+                    failed += flush(collection, chunk, options, progress);
+                }
+            }
+            if (!chunk.isEmpty()) failed += flush(collection, chunk, options, progress);
+        }
+        progress.finish();
+        if (failed > 0) logger.warn("{} documentos não foram importados (por exemplo, _id ou email já existentes).", failed);
+    }
+
+    private static int flush(
+            MongoCollection<RawBsonDocument> collection,
+            List<InsertOneModel<RawBsonDocument>> chunk,
+            BulkWriteOptions options,
+            Progress progress
+    ) {
+        int failed = 0;
+        try {
+            collection.bulkWrite(chunk, options);
+        } catch (MongoBulkWriteException e) {
+            failed = e.getWriteErrors().size();
+        }
+        progress.add(chunk.size() - failed);
+        chunk.clear();
+        return failed;
+    }
+
+    private static OutputStream open(Path file) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(file);
+        return isGzip(file) ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+    }
+
+    private static InputStream read(Path file) throws IOException {
+        InputStream inputStream = Files.newInputStream(file);
+        return isGzip(file) ? new GZIPInputStream(inputStream, BUFFER_SIZE) : inputStream;
+    }
+
+    private static boolean isGzip(Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+
+    private static final class Progress {
+
+        private final String action;
+        private final long start = System.nanoTime();
+        private long count;
+        private long nextReport = PROGRESS_INTERVAL;
+
+        private Progress(String action) {
+            this.action = action;
+        }
+
+        private void add(long documents) {
+            count += documents;
+            if (count >= nextReport) {
+                logger.info("{} documentos {} ({} docs/s).", count, action, documentsPerSecond());
+                nextReport += PROGRESS_INTERVAL;
+            }
+        }
+
+        private void finish() {
+            logger.info("Concluído: {} documentos {} em {} s ({} docs/s).",
+                    count, action, String.format("%.1f", elapsedSeconds()), documentsPerSecond());
+        }
+
+        private long documentsPerSecond() {
+            double seconds = elapsedSeconds();
+            return seconds == 0 ? count : Math.round(count / seconds);
+        }
+
+        private double elapsedSeconds() {
+            return (System.nanoTime() - start) / 1e9;
+        }
+    }
+}
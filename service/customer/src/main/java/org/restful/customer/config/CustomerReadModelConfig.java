@@ -0,0 +1,50 @@
+package org.restful.customer.config;
+
+import com.mongodb.ReadPreference;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.customer.customer.repository.CustomerReadRepository;
+import org.restful.customer.customer.repository.impl.CustomerQueryRepositoryCustomImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments.just;
+
+/**
+ * Monta o lado de consultas (CQRS) dos clientes: um {@link CustomerReadRepository} sobre um {@link MongoTemplate}
+ * próprio, com a preferência de leitura configurada. O template não é exposto como bean para não substituir o
+ * {@code MongoTemplate} auto-configurado, que continua atendendo os comandos no primário.
+ */
+@Configuration
+@Schema(description = "Configuração do repositório de leitura de clientes e de sua preferência de leitura.")
+public class CustomerReadModelConfig {
+
+    @Bean("customerReadRepository")
+    public CustomerReadRepository customerReadRepository(
+            MongoDatabaseFactory mongoDatabaseFactory,
+            MongoConverter mongoConverter,
+            @Value("${customer.read.preference:primary}") String readPreference,
+            @Value("${customer.read.max-staleness:0s}") Duration maxStaleness
+    ) {
+        MongoTemplate readTemplate = new MongoTemplate(mongoDatabaseFactory, mongoConverter);
+        readTemplate.setReadPreference(readPreference(readPreference, maxStaleness));
+        return new MongoRepositoryFactory(readTemplate)
+                .getRepository(CustomerReadRepository.class, just(new CustomerQueryRepositoryCustomImpl(readTemplate)));
+    }
+
+    /**
+     * O atraso máximo só se aplica a modos que leem das secundárias; o driver exige no mínimo 90 segundos.
+     */
+    static ReadPreference readPreference(String mode, Duration maxStaleness) {
+        if (maxStaleness.isZero() || mode.equals("primary")) return ReadPreference.valueOf(mode);
+        return ReadPreference.valueOf(mode, List.of(), maxStaleness.toSeconds(), SECONDS);
+    }
+}
@@ -0,0 +1,68 @@
+package org.restful.customer.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Mede quanto tempo cada operação espera por uma conexão do pool do driver do MongoDB. As métricas que o Spring Boot
+ * já registra ({@code mongodb.driver.pool.*}) mostram apenas o tamanho do pool e da fila de espera; este listener
+ * cronometra o intervalo entre o início do checkout e a entrega (ou a falha) da conexão, correlacionando os eventos
+ * pelo {@code operationId}.
+ */
+@Component("mongoConnectionPoolMetrics")
+@Schema(description = "Publica o tempo de espera por conexões do pool do MongoDB.")
+public class MongoConnectionPoolMetrics implements ConnectionPoolListener, MongoClientSettingsBuilderCustomizer {
+
+    private final Meter.MeterProvider<Timer> checkoutTimer;
+    private final Map<Long, Long> checkoutStarts = new ConcurrentHashMap<>();
+
+    public MongoConnectionPoolMetrics(MeterRegistry meterRegistry) {
+        this.checkoutTimer = Timer.builder("mongodb.driver.pool.checkout")
+                .description("Tempo de espera por uma conexão do pool do MongoDB")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder settings) {
+        settings.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(this));
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        checkoutStarts.put(event.getOperationId(), System.nanoTime());
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        record(event.getOperationId(), event.getConnectionId().getServerId(), "success");
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        record(event.getOperationId(), event.getServerId(), event.getReason().name().toLowerCase());
+    }
+
+    private void record(long operationId, ServerId serverId, String outcome) {
+        Long start = checkoutStarts.remove(operationId);
+        if (start == null) return;
+        checkoutTimer
+                .withTags("server.address", serverId.getAddress().toString(), "outcome", outcome)
+                .record(System.nanoTime() - start, NANOSECONDS);
+    }
+}
@@ -0,0 +1,78 @@
+package org.restful.customer.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.thread.Threading.VIRTUAL;
+
+/**
+ * Diagnóstico de pinning de virtual threads: assina o evento JFR {@code jdk.VirtualThreadPinned}, que o JDK
+ * emite quando uma virtual thread bloqueia presa à carrier thread (por exemplo, dentro de um bloco
+ * {@code synchronized}), contabiliza as ocorrências e registra o frame responsável.
+ * <p>
+ * Só é ativado quando {@code spring.threads.virtual.enabled=true} e a aplicação roda em um JDK 21 ou superior.
+ */
+@Component("virtualThreadPinningMonitor")
+@ConditionalOnThreading(VIRTUAL)
+@Schema(description = "Monitora eventos de pinning de virtual threads via JFR.")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Counter pinnedEvents;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold
+    ) {
+        this.pinnedEvents = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Vezes em que uma virtual thread ficou presa à carrier thread acima do limite configurado")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        logger.info("Monitorando pinning de virtual threads acima de {} ms.", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        logger.warn("Virtual thread presa à carrier thread por {} ms em {}", event.getDuration().toMillis(), topFrame(event));
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) return "(sem stack trace)";
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.")) return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        RecordedFrame frame = event.getStackTrace().getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
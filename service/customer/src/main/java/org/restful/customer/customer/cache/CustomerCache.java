@@ -0,0 +1,132 @@
+package org.restful.customer.customer.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cache read-through das consultas de cliente por ID.
+ * <p>
+ * Clientes encontrados ficam em cache por {@code customer.cache.time-to-live}; IDs inexistentes são guardados
+ * como {@link Optional#empty()} por {@code customer.cache.negative-time-to-live}, para que consultas repetidas
+ * a IDs ausentes não cheguem ao MongoDB. Toda escrita de um cliente deve chamar {@link #put(CustomerResponse)},
+ * {@link #putMissing(String)} ou {@link #invalidate(String)}.
+ * <p>
+ * As cargas usam o {@link CustomerRepository}, no primário: carregado de uma secundária atrasada, um cliente criado
+ * há pouco (por esta ou outra instância) ficaria em cache negativo, e um alterado há pouco, com a versão anterior.
+ */
+@Component("customerCache")
+@Schema(description = "Cache em memória, limitado por tamanho e TTL, das consultas de cliente por ID.")
+public class CustomerCache {
+
+    private final LoadingCache<String, Optional<CustomerResponse>> customers;
+
+    public CustomerCache(
+            CustomerRepository customerRepository,
+            CustomerMapper customerMapper,
+            MeterRegistry meterRegistry,
+            @Value("${customer.cache.maximum-size:10000}") long maximumSize,
+            @Value("${customer.cache.time-to-live:10m}") Duration timeToLive,
+            @Value("${customer.cache.negative-time-to-live:30s}") Duration negativeTimeToLive
+    ) {
+        this.customers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PositiveAndNegativeExpiry(timeToLive.toNanos(), negativeTimeToLive.toNanos()))
+                .recordStats()
+                .build(new CustomerLoader(customerRepository, customerMapper));
+        CaffeineCacheMetrics.monitor(meterRegistry, customers, "customers");
+    }
+
+    public Optional<CustomerResponse> get(String customerId) {
+        return customers.get(customerId);
+    }
+
+    /**
+     * Resolve vários IDs de uma vez: os que não estão em cache são carregados com uma única consulta {@code $in}
+     * e passam a ficar em cache, inclusive os inexistentes (cache negativo).
+     */
+    public Map<String, Optional<CustomerResponse>> getAll(Collection<String> customerIds) {
+        return customers.getAll(customerIds);
+    }
+
+    /**
+     * Consulta o cache sem carregar do MongoDB; vazio tanto para IDs fora do cache quanto para IDs em cache negativo.
+     */
+    public Optional<CustomerResponse> getIfCached(String customerId) {
+        Optional<CustomerResponse> customer = customers.getIfPresent(customerId);
+        return customer == null ? Optional.empty() : customer;
+    }
+
+    public void invalidate(String customerId) {
+        customers.invalidate(customerId);
+    }
+
+    /**
+     * Grava o estado resultante de um comando, em vez de apenas invalidar: a próxima consulta por ID não recarrega
+     * o cliente de uma secundária que ainda não replicou a escrita.
+     */
+    public void put(CustomerResponse customer) {
+        customers.put(customer.id(), Optional.of(customer));
+    }
+
+    public void putMissing(String customerId) {
+        customers.put(customerId, Optional.empty());
+    }
+
+    private record CustomerLoader(CustomerRepository customerRepository, CustomerMapper customerMapper)
+            implements CacheLoader<String, Optional<CustomerResponse>> {
+
+        @Override
+        public Optional<CustomerResponse> load(String customerId) {
+            return customerRepository.findById(customerId).map(customerMapper::fromCustomer);
+        }
+
+        @Override
+        public Map<String, Optional<CustomerResponse>> loadAll(Set<? extends String> customerIds) {
+            Map<String, Optional<CustomerResponse>> loaded = new HashMap<>();
+            for (Customer customer : customerRepository.findAllById(Set.copyOf(customerIds))) {
+                loaded.put(customer.getId(), Optional.of(customerMapper.fromCustomer(customer)));
+            }
+            for (String customerId : customerIds) {
+                loaded.putIfAbsent(customerId, Optional.empty());
+            }
+            return loaded;
+        }
+    }
+
+    private record PositiveAndNegativeExpiry(long timeToLive, long negativeTimeToLive)
+            implements Expiry<String, Optional<CustomerResponse>> {
+
+        @Override
+        public long expireAfterCreate(String customerId, Optional<CustomerResponse> customer, long currentTime) {
+            return customer.isPresent() ? timeToLive : negativeTimeToLive;
+        }
+
+        @Override
+        public long expireAfterUpdate(String customerId, Optional<CustomerResponse> customer, long currentTime, long currentDuration) {
+            return expireAfterCreate(customerId, customer, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String customerId, Optional<CustomerResponse> customer, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
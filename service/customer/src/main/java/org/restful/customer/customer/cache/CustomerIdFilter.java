@@ -0,0 +1,223 @@
+package org.restful.customer.customer.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.bson.types.ObjectId;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerRepository;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import static java.lang.Math.*;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Filtro de Bloom com os IDs de clientes existentes.
+ * <p>
+ * O filtro é de cada instância: só enxerga as escritas feitas por ela e o que havia no MongoDB na última
+ * reconstrução, feita a cada {@code customer.exists-filter.rebuild-interval}. Por isso uma resposta negativa só
+ * dispensa a consulta ao MongoDB quando é confiável: o filtro foi reconstruído há menos de
+ * {@code customer.exists-filter.max-age} e o ID (um {@link ObjectId}, que carrega o instante em que foi gerado) é
+ * anterior ao início dessa reconstrução, com a folga de {@code customer.exists-filter.clock-skew}. IDs mais
+ * recentes podem ter sido criados por outra instância e são sempre conferidos no banco. Documentos importados com
+ * IDs antigos (como pelo {@code TransferCustomerCollection}) passam a ser vistos na reconstrução seguinte.
+ * <p>
+ * Uma resposta positiva sempre precisa ser confirmada no banco. IDs removidos continuam no filtro (Bloom não
+ * suporta remoção) e passam a ser contabilizados como falsos positivos até a próxima reconstrução.
+ */
+@Component("customerIdFilter")
+@Schema(description = "Índice de pertinência em memória dos IDs de clientes.")
+public class CustomerIdFilter {
+
+    private static final Logger logger = getLogger(CustomerIdFilter.class);
+
+    private final CustomerRepository customerRepository;
+    private final Duration maxAge;
+    private final Duration clockSkew;
+    private final int words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private volatile AtomicLongArray bits;
+    private volatile AtomicLongArray rebuilding;
+    private volatile Instant builtAt;
+
+    private final Counter negatives;
+    private final Counter hits;
+    private final Counter falsePositives;
+    private final Counter bypassed;
+
+    public CustomerIdFilter(
+            CustomerRepository customerRepository,
+            MeterRegistry meterRegistry,
+            @Value("${customer.exists-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${customer.exists-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${customer.exists-filter.max-age:15m}") Duration maxAge,
+            @Value("${customer.exists-filter.clock-skew:1m}") Duration clockSkew
+    ) {
+        if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1)
+            throw new IllegalArgumentException("Invalid customer exists-filter sizing");
+
+        this.customerRepository = customerRepository;
+        this.maxAge = maxAge;
+        this.clockSkew = clockSkew;
+        long optimalBits = (long) ceil(-expectedInsertions * log(falsePositiveProbability) / (log(2) * log(2)));
+        this.words = toIntExact((optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashFunctions = max(1, (int) round((double) bitCount / expectedInsertions * log(2)));
+
+        this.negatives = lookups(meterRegistry, "negative");
+        this.hits = lookups(meterRegistry, "hit");
+        this.falsePositives = lookups(meterRegistry, "false_positive");
+        this.bypassed = lookups(meterRegistry, "bypass");
+        Gauge.builder("customer.exists.filter.fpp", this, CustomerIdFilter::expectedFalsePositiveProbability)
+                .description("Probabilidade estimada de falso positivo com a ocupação atual do filtro")
+                .register(meterRegistry);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Relê todos os IDs do primário em um novo conjunto de bits e o troca pelo atual. As inclusões feitas durante a
+     * leitura vão para os dois conjuntos: um ID gravado antes de a leitura começar está no cursor, e um gravado
+     * depois passa por {@link #put(String)} com o novo conjunto já visível.
+     */
+    @Scheduled(
+            initialDelayString = "${customer.exists-filter.rebuild-interval:PT5M}",
+            fixedDelayString = "${customer.exists-filter.rebuild-interval:PT5M}"
+    )
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        Instant snapshot = Instant.now();
+        AtomicLongArray next = new AtomicLongArray(words);
+        rebuilding = next;
+        long loaded = 0;
+        try (Stream<Customer> ids = customerRepository.streamIdsBy()) {
+            for (var it = ids.iterator(); it.hasNext(); loaded++)
+                set(next, it.next().getId());
+            bits = next;
+            builtAt = snapshot;
+            logger.info("Filtro de IDs de clientes reconstruído com {} IDs em {} ms.", loaded, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("Falha ao reconstruir o filtro de IDs de clientes; respostas negativas serão conferidas no MongoDB.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    public void put(String customerId) {
+        if (customerId == null) return;
+        AtomicLongArray next = rebuilding;
+        if (next != null) set(next, customerId);
+        set(bits, customerId);
+    }
+
+    /**
+     * Retorna {@code false} somente quando o ID certamente não existe. Enquanto o filtro não estiver
+     * aquecido, ou quando a resposta negativa não for confiável, retorna {@code true}.
+     */
+    public boolean mightContain(String customerId) {
+        Instant snapshot = builtAt;
+        if (!trusted(snapshot, customerId)) {
+            bypassed.increment();
+            return true;
+        }
+        if (!contains(bits, customerId)) {
+            negatives.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Registra o resultado da confirmação no MongoDB de uma resposta positiva de {@link #mightContain(String)}. Um
+     * ID confirmado que o filtro não conhecia (criado por outra instância) é incluído.
+     */
+    public void recordConfirmation(String customerId, boolean exists) {
+        boolean known = contains(bits, customerId);
+        if (exists && !known) put(customerId);
+        if (builtAt == null || !known) return;
+        (exists ? hits : falsePositives).increment();
+    }
+
+    public boolean isReady() {
+        return builtAt != null;
+    }
+
+    double expectedFalsePositiveProbability() {
+        AtomicLongArray bits = this.bits;
+        long set = 0;
+        for (int i = 0; i < bits.length(); i++)
+            set += Long.bitCount(bits.get(i));
+        return pow((double) set / bitCount, hashFunctions);
+    }
+
+    private boolean trusted(Instant snapshot, String customerId) {
+        if (snapshot == null || snapshot.plus(maxAge).isBefore(Instant.now())) return false;
+        return !ObjectId.isValid(customerId)
+                || new ObjectId(customerId).getDate().toInstant().isBefore(snapshot.minus(clockSkew));
+    }
+
+    private void set(AtomicLongArray target, String customerId) {
+        long hash1 = hash(customerId);
+        long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((target.get(word) & mask) == 0)
+                target.accumulateAndGet(word, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    private boolean contains(AtomicLongArray target, String customerId) {
+        long hash1 = hash(customerId);
+        long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = floorMod(hash1 + i * hash2, bitCount);
+            if ((target.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("customer.exists.filter.lookups")
+                .description("Consultas de existência de clientes respondidas pelo filtro de IDs")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return fmix64(hash);
+    }
+
+    private static long fmix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
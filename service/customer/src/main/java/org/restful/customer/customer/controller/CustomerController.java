@@ -1,20 +1,52 @@
 package org.restful.customer.customer.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.restful.customer.customer.dto.BulkCustomerResponse;
+import org.restful.customer.customer.dto.CustomerBatchRequest;
+import org.restful.customer.customer.dto.CustomerBatchResponse;
+import org.restful.customer.customer.dto.CustomerField;
+import org.restful.customer.customer.dto.CustomerJson;
+import org.restful.customer.customer.dto.CustomerPageResponse;
+import org.restful.customer.customer.dto.CustomerPatchRequest;
 import org.restful.customer.customer.dto.CustomerRequest;
 import org.restful.customer.customer.dto.CustomerResponse;
-import org.restful.customer.customer.service.CustomerService;
+import org.restful.customer.customer.dto.CustomerSearchRequest;
+import org.restful.customer.customer.dto.CustomerSearchResponse;
+import org.restful.customer.customer.service.CustomerCommandService;
+import org.restful.customer.customer.service.CustomerQueryService;
+import org.restful.customer.exception.CustomerNotFoundException;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.parseMediaTypes;
 import static org.springframework.http.ResponseEntity.*;
 
 @RestController
@@ -24,40 +56,125 @@ import static org.springframework.http.ResponseEntity.*;
 @Tag(name = "Customer Controller", description = "Controller para gerenciamento de clientes")
 public class CustomerController {
 
-    private final CustomerService customerService;
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    private final CustomerCommandService customerCommandService;
+    private final CustomerQueryService customerQueryService;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+    /**
+     * No modo bruto, listagem e consulta por ID convertem o BSON lido do MongoDB direto em JSON, sem passar por
+     * {@code Customer}, {@code CustomerResponse} e {@code ObjectMapper}. Nesse modo a consulta por ID não usa o {@code CustomerCache}.
+     */
+    @Value("${customer.read.raw-json:false}")
+    private boolean rawJson;
 
 
     @Operation(summary = "Criar um novo cliente", description = "Cria um novo cliente com os dados fornecidos.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cliente criado com sucesso."),
-            @ApiResponse(responseCode = "400", description = "Dados de cliente inválidos.")
+            @ApiResponse(responseCode = "400", description = "Dados de cliente inválidos."),
+            @ApiResponse(responseCode = "409", description = "Já existe um cliente com o email informado.")
     })
     @PostMapping
     public ResponseEntity<String> createCustomer(
             @RequestBody @Valid CustomerRequest customerDto
     ) {
-        return ok(customerService.createCustomer(customerDto));
+        return ok(customerCommandService.createCustomer(customerDto));
     }
 
-    @Operation(summary = "Atualizar um cliente", description = "Atualiza as informações de um cliente existente.")
+    @Operation(summary = "Criar clientes em lote", description = "Recebe um array JSON, um fluxo NDJSON ou um array/sequência Smile de clientes, valida e insere em blocos com bulkWrite não ordenado.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "202", description = "Atualização do cliente aceita."),
+            @ApiResponse(responseCode = "200", description = "Lote processado; cada item traz o ID criado ou o erro correspondente.")
+    })
+    @PostMapping(value = "/bulk", consumes = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<BulkCustomerResponse> createCustomers(
+            InputStream requestBody,
+            @RequestHeader(CONTENT_TYPE) MediaType contentType
+    ) throws IOException {
+        ObjectMapper reader = APPLICATION_SMILE.includes(contentType) ? smileHttpMessageConverter.getObjectMapper() : objectMapper;
+        try (MappingIterator<CustomerRequest> customerDtos = reader.readerFor(CustomerRequest.class).readValues(requestBody)) {
+            return ok(customerCommandService.createCustomers(customerDtos));
+        }
+    }
+
+    @Operation(summary = "Atualizar um cliente", description = "Atualiza as informações de um cliente existente. Com If-Match, a atualização só é aplicada se o cliente ainda estiver na versão do ETag informado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Atualização do cliente aceita; o cabeçalho ETag traz a nova versão."),
             @ApiResponse(responseCode = "400", description = "Dados de cliente inválidos."),
-            @ApiResponse(responseCode = "404", description = "Cliente não encontrado.")
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado."),
+            @ApiResponse(responseCode = "412", description = "O ETag informado em If-Match não corresponde à versão atual do cliente, ou If-Match: * foi enviado para um cliente inexistente.")
     })
     @PutMapping
     public ResponseEntity<Void> updateCustomer(
-            @RequestBody @Valid CustomerRequest customerDto
+            @RequestBody @Valid CustomerRequest customerDto,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch
+    ) {
+        Long expectedVersion = CustomerETag.expectedVersion(ifMatch);
+        CustomerResponse customer;
+        try {
+            customer = customerCommandService.updateCustomer(customerDto, expectedVersion);
+        } catch (CustomerNotFoundException e) {
+            CustomerETag.requireExisting(ifMatch, customerDto.id());
+            throw e;
+        }
+        return accepted().eTag(CustomerETag.of(customer.version())).build();
+    }
+
+    @Operation(summary = "Atualizar parcialmente um cliente", description = "Aplica apenas os campos informados em uma única operação atômica, opcionalmente condicionada à versão do cliente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cliente atualizado com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Dados de cliente inválidos."),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado."),
+            @ApiResponse(responseCode = "409", description = "O cliente foi alterado desde a versão informada.")
+    })
+    @PatchMapping("/{customer-id}")
+    public ResponseEntity<CustomerResponse> patchCustomer(
+            @PathVariable("customer-id") String customerId,
+            @RequestBody @Valid CustomerPatchRequest customerDto
     ) {
-        customerService.updateCustomer(customerDto);
-        return accepted().build();
+        CustomerResponse customer = customerCommandService.patchCustomer(customerId, customerDto);
+        return ok().eTag(CustomerETag.of(customer.version())).body(customer);
     }
 
-    @Operation(summary = "Listar todos os clientes", description = "Retorna uma lista completa de todos os clientes cadastrados.")
-    @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso.")
+    @Operation(summary = "Listar clientes", description = "Retorna uma página de clientes ordenada pelo ID, paginada por cursor. O parâmetro 'fields' (ex.: id,email) limita os campos lidos do MongoDB e devolvidos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de clientes retornada com sucesso.",
+                    content = @Content(schema = @Schema(implementation = CustomerPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Limite, cursor ou campo inválido.")
+    })
     @GetMapping
-    public ResponseEntity<List<CustomerResponse>> getCustomer() {
-        return ok(customerService.findAllCustomers());
+    public ResponseEntity<?> getCustomer(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", defaultValue = "50") int limit,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = ACCEPT, required = false) String accept
+    ) {
+        if (useRawJson(fields, accept)) return ok().contentType(APPLICATION_JSON).body(customerQueryService.findAllCustomersAsJson(after, limit));
+        return ok(customerQueryService.findAllCustomers(after, limit, CustomerField.parse(fields)));
+    }
+
+    @Operation(summary = "Exportar todos os clientes", description = "Transmite todos os clientes em NDJSON à medida que são lidos do cursor do MongoDB.")
+    @ApiResponse(responseCode = "200", description = "Clientes transmitidos com sucesso.")
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCustomers() {
+        return ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(outputStream -> {
+                    if (rawJson) {
+                        customerQueryService.writeAllCustomersAsJson(outputStream);
+                        return;
+                    }
+                    try (Stream<CustomerResponse> customers = customerQueryService.streamAllCustomers();
+                         JsonGenerator generator = objectMapper.createGenerator(outputStream).disable(AUTO_CLOSE_TARGET)) {
+                        for (Iterator<CustomerResponse> it = customers.iterator(); it.hasNext(); ) {
+                            generator.writeObject(it.next());
+                            generator.writeRaw('\n');
+                        }
+                    }
+                });
     }
 
     @Operation(summary = "Verificar existência de um cliente", description = "Verifica se um cliente com o ID fornecido existe no sistema.")
@@ -69,31 +186,91 @@ public class CustomerController {
     public ResponseEntity<Boolean> customerExists(
             @PathVariable("customer-id") String customerId
     ) {
-        return ok(customerService.existsById(customerId));
+        return ok(customerQueryService.existsById(customerId));
     }
 
-    @Operation(summary = "Obter informações de um cliente", description = "Retorna as informações detalhadas de um cliente específico com base no ID fornecido.")
+    @Operation(summary = "Obter informações de um cliente", description = "Retorna as informações detalhadas de um cliente específico com base no ID fornecido. O parâmetro 'fields' (ex.: id,email) limita os campos lidos do MongoDB e devolvidos. Com If-None-Match igual ao ETag atual, responde 304 sem corpo; o ETag só é enviado quando a resposta inclui a versão.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Informações do cliente retornadas com sucesso."),
+            @ApiResponse(responseCode = "200", description = "Informações do cliente retornadas com sucesso; o cabeçalho ETag traz a versão.",
+                    content = @Content(schema = @Schema(implementation = CustomerResponse.class))),
+            @ApiResponse(responseCode = "304", description = "O cliente não mudou desde o ETag informado em If-None-Match."),
+            @ApiResponse(responseCode = "400", description = "Campo inválido."),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado.")
     })
     @GetMapping("/{customer-id}")
-    public ResponseEntity<CustomerResponse> getCustomer(
-            @PathVariable("customer-id") String customerId
+    public ResponseEntity<?> getCustomer(
+            @PathVariable("customer-id") String customerId,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = ACCEPT, required = false) String accept
     ) {
-        return ok(customerService.findCustomerById(customerId));
+        if (useRawJson(fields, accept)) {
+            CustomerJson customer = customerQueryService.findCustomerJsonById(customerId);
+            return ok().contentType(APPLICATION_JSON).eTag(CustomerETag.of(customer.version())).body(customer.json());
+        }
+        CustomerResponse customer = customerQueryService.findCustomerById(customerId, CustomerField.parse(fields));
+        return ok().eTag(CustomerETag.of(customer.version())).body(customer);
     }
 
-    @Operation(summary = "Deletar um cliente", description = "Remove um cliente específico do sistema com base no ID fornecido.")
+    @Operation(summary = "Obter clientes em lote", description = "Resolve uma lista de IDs com uma única consulta ao MongoDB (IDs já em cache não são consultados) e informa os IDs inexistentes.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Cliente deletado com sucesso."),
+            @ApiResponse(responseCode = "200", description = "Clientes encontrados e IDs inexistentes."),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs vazia ou maior que o permitido.")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<CustomerBatchResponse> getCustomers(
+            @RequestBody @Valid CustomerBatchRequest batchRequest
+    ) {
+        return ok(customerQueryService.findCustomersByIds(batchRequest.ids()));
+    }
+
+    @Operation(summary = "Buscar clientes", description = "Busca por texto (ordenada por relevância), por prefixo de nome, sobrenome ou email e por cidade, estado ou país, usando os índices da coleção. Alcança no máximo os 1000 primeiros resultados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de resultados retornada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Nenhum critério informado, paginação inválida ou além dos 1000 primeiros resultados.")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CustomerSearchResponse> searchCustomers(
+            @ParameterObject CustomerSearchRequest search,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ok(customerQueryService.searchCustomers(search, page, size));
+    }
+
+    @Operation(summary = "Obter um cliente pelo email", description = "Retorna o cliente com o email informado, consultado pelo índice único de email.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Informações do cliente retornadas com sucesso."),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado.")
     })
+    @GetMapping("/by-email")
+    public ResponseEntity<CustomerResponse> getCustomerByEmail(
+            @RequestParam("email") String email
+    ) {
+        return ok(customerQueryService.findCustomerByEmail(email));
+    }
+
+    @Operation(summary = "Deletar um cliente", description = "Remove um cliente específico do sistema com base no ID fornecido. Com If-Match, a remoção só é aplicada se o cliente ainda estiver na versão do ETag informado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cliente deletado com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado."),
+            @ApiResponse(responseCode = "412", description = "O ETag informado em If-Match não corresponde à versão atual do cliente, ou If-Match: * foi enviado para um cliente inexistente.")
+    })
     @DeleteMapping("/{customer-id}")
     public ResponseEntity<Void> deleteCustomer(
-            @PathVariable("customer-id") String customerId
+            @PathVariable("customer-id") String customerId,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch
     ) {
-        customerService.deleteCustomer(customerId);
+        if (!customerCommandService.deleteCustomer(customerId, CustomerETag.expectedVersion(ifMatch)))
+            CustomerETag.requireExisting(ifMatch, customerId);
         return noContent().build();
     }
+
+    /**
+     * O modo bruto só produz JSON; com {@code fields} ou quando o cliente pede Smile, a resposta passa pelo
+     * {@code CustomerResponse} e pela negociação de conteúdo.
+     */
+    private boolean useRawJson(String fields, String accept) {
+        return rawJson && fields == null
+                && (accept == null || parseMediaTypes(accept).stream().noneMatch(APPLICATION_SMILE::equalsTypeAndSubtype));
+    }
 }
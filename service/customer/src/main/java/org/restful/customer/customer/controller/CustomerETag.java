@@ -0,0 +1,50 @@
+package org.restful.customer.customer.controller;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.customer.exception.PreconditionFailedException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * ETag forte de um cliente, derivado do campo {@code version}, que o MongoDB incrementa a cada escrita. Por ser
+ * comparado apenas com a versão, o ETag pode ser calculado sem serializar o corpo da resposta, e o {@code If-Match}
+ * vira uma condição na própria escrita, sem lock.
+ */
+@Schema(description = "Conversão entre a versão de um cliente e o seu ETag.")
+public final class CustomerETag {
+
+    private static final Pattern STRONG_ETAG = Pattern.compile("\"(\\d{1,18})\"");
+
+    private CustomerETag() {
+    }
+
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Converte o cabeçalho {@code If-Match} na versão esperada pela escrita: nulo quando o cabeçalho está ausente
+     * ou é {@code *} (basta o cliente existir, o que é verificado por {@link #requireExisting(String, String)}). Um
+     * ETag fraco, uma lista de ETags ou um valor que não foi gerado por {@link #of(Long)} nunca corresponde a uma
+     * versão, e a requisição falha com 412.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+
+        Matcher matcher = STRONG_ETAG.matcher(ifMatch.trim());
+        if (!matcher.matches()) throw new PreconditionFailedException(format("If-Match %s does not match any customer version", ifMatch));
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /**
+     * Chamado quando a escrita não encontrou o cliente: com {@code If-Match: *} a condição é falsa, pois não há
+     * versão atual, e a resposta é 412 em vez de 404 (ou de 204, na remoção). Sem o cabeçalho, não faz nada.
+     */
+    public static void requireExisting(String ifMatch, String customerId) {
+        if (ifMatch != null && ifMatch.trim().equals("*"))
+            throw new PreconditionFailedException(format("If-Match * requires customer %s to exist", customerId));
+    }
+}
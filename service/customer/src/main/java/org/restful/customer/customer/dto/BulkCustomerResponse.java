@@ -0,0 +1,13 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO de resposta de uma importação de clientes em lote.")
+public record BulkCustomerResponse(
+        int created,
+        int failed,
+        List<BulkCustomerResult> results
+) {
+}
@@ -0,0 +1,17 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da criação de um cliente dentro de uma importação em lote.")
+public record BulkCustomerResult(
+
+        @Schema(description = "Posição do cliente no corpo da requisição, a partir de zero.")
+        int index,
+
+        @Schema(description = "ID do cliente criado; nulo em caso de erro.")
+        String id,
+
+        @Schema(description = "Motivo da falha; nulo em caso de sucesso.")
+        String error
+) {
+}
@@ -0,0 +1,16 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "DTO para a consulta de vários clientes pelo ID em uma única requisição.")
+public record CustomerBatchRequest(
+
+        @NotEmpty(message = "At least one id is required")
+        @Size(max = 500, message = "At most 500 ids are allowed per request")
+        List<String> ids
+) {
+}
@@ -0,0 +1,16 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO de resposta da consulta de clientes em lote.")
+public record CustomerBatchResponse(
+
+        @Schema(description = "Clientes encontrados, na ordem em que os IDs foram enviados.")
+        List<CustomerResponse> customers,
+
+        @Schema(description = "IDs informados para os quais não existe cliente.")
+        List<String> missing
+) {
+}
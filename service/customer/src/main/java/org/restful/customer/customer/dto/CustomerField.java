@@ -0,0 +1,58 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Campos de {@link CustomerResponse} que podem ser pedidos no parâmetro {@code fields}, associados à propriedade
+ * correspondente da entidade {@code Customer}, usada na projeção da consulta ao MongoDB.
+ */
+@Schema(description = "Campos selecionáveis de um cliente (sparse fieldsets).")
+public enum CustomerField {
+
+    ID("id", "id"),
+    FIRST_NAME("firstName", "firstname"),
+    LAST_NAME("lastName", "lastname"),
+    EMAIL("email", "email"),
+    ADDRESS("address", "address"),
+    VERSION("version", "version");
+
+    private final String jsonName;
+    private final String property;
+
+    CustomerField(String jsonName, String property) {
+        this.jsonName = jsonName;
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Converte a lista separada por vírgulas do parâmetro {@code fields} (por exemplo, {@code id,email}).
+     *
+     * @return os campos pedidos, ou {@code null} quando o parâmetro está ausente ou vazio (todos os campos)
+     * @throws IllegalArgumentException se algum nome não corresponder a um campo de {@link CustomerResponse}
+     */
+    public static Set<CustomerField> parse(String fields) {
+        if (fields == null || fields.isBlank()) return null;
+
+        Set<CustomerField> selected = EnumSet.noneOf(CustomerField.class);
+        for (String name : fields.split(",")) {
+            selected.add(fromJsonName(name.trim()));
+        }
+        return selected;
+    }
+
+    private static CustomerField fromJsonName(String name) {
+        for (CustomerField field : values()) {
+            if (field.jsonName.equals(name)) return field;
+        }
+        throw new IllegalArgumentException(format("Unknown customer field %s", name));
+    }
+}
@@ -0,0 +1,14 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Cliente já serializado em JSON (UTF-8) pelo modo bruto, acompanhado da versão usada como ETag.")
+public record CustomerJson(
+
+        @Schema(description = "Documento no formato de CustomerResponse, em JSON.")
+        byte[] json,
+
+        @Schema(description = "Versão do cliente; nula em documentos gravados antes do controle de versão.")
+        Long version
+) {
+}
@@ -1,14 +1,20 @@
 package org.restful.customer.customer.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import org.restful.customer.customer.entity.Address;
 import org.restful.customer.customer.entity.Customer;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
+import static org.restful.customer.customer.dto.CustomerField.*;
+
 @Service("customerMapper")
 @Schema(description = "Serviço responsável por mapear entre DTOs e a entidade Customer.")
 public class CustomerMapper {
 
+    // Entidade e DTOs compartilham o mesmo tipo Address: a instância desserializada da requisição (ou lida do
+    // MongoDB) é repassada sem cópia, já que nenhum dos lados a altera depois do mapeamento.
+
     public Customer toCustomer(CustomerRequest customerDto) {
         if (customerDto == null) return null;
 
@@ -16,25 +22,18 @@ public class CustomerMapper {
                 .firstname(customerDto.firstName())
                 .lastname(customerDto.lastName())
                 .email(customerDto.email())
-                .address(Address.builder()
-                        .street(customerDto.address().getStreet())
-                        .city(customerDto.address().getCity())
-                        .state(customerDto.address().getState())
-                        .zip(customerDto.address().getZip())
-                        .country(customerDto.address().getCountry())
-                        .build())
+                .address(customerDto.address())
                 .build();
     }
 
-    public Address toAddress(Address address) {
-        if (address == null) return null;
+    public Customer toCustomer(CustomerPatchRequest customerDto) {
+        if (customerDto == null) return null;
 
-        return Address.builder()
-                .street(address.getStreet())
-                .city(address.getCity())
-                .state(address.getState())
-                .zip(address.getZip())
-                .country(address.getCountry())
+        return Customer.builder()
+                .firstname(customerDto.firstName())
+                .lastname(customerDto.lastName())
+                .email(customerDto.email())
+                .address(customerDto.address())
                 .build();
     }
 
@@ -44,13 +43,24 @@ public class CustomerMapper {
                 customer.getFirstname(),
                 customer.getLastname(),
                 customer.getEmail(),
-                Address.builder()
-                        .street(customer.getAddress().getStreet())
-                        .city(customer.getAddress().getCity())
-                        .state(customer.getAddress().getState())
-                        .zip(customer.getAddress().getZip())
-                        .country(customer.getAddress().getCountry())
-                        .build()
+                customer.getAddress(),
+                customer.getVersion()
+        );
+    }
+
+    /**
+     * Mantém apenas os campos pedidos; os demais ficam nulos e são omitidos na serialização.
+     */
+    public CustomerResponse select(CustomerResponse customer, Set<CustomerField> fields) {
+        if (fields == null) return customer;
+
+        return new CustomerResponse(
+                fields.contains(ID) ? customer.id() : null,
+                fields.contains(FIRST_NAME) ? customer.firstName() : null,
+                fields.contains(LAST_NAME) ? customer.lastName() : null,
+                fields.contains(EMAIL) ? customer.email() : null,
+                fields.contains(ADDRESS) ? customer.address() : null,
+                fields.contains(VERSION) ? customer.version() : null
         );
     }
 }
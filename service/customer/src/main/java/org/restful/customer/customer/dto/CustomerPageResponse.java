@@ -0,0 +1,14 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO para uma página de clientes paginada por cursor (keyset sobre o _id).")
+public record CustomerPageResponse(
+        List<CustomerResponse> content,
+
+        @Schema(description = "Cursor a ser enviado no parâmetro 'after' para obter a próxima página; nulo na última página.")
+        String next
+) {
+}
@@ -0,0 +1,22 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import org.restful.customer.customer.entity.Address;
+
+@Schema(description = "DTO para atualizações parciais de clientes; apenas os campos não nulos são alterados.")
+public record CustomerPatchRequest(
+
+        String firstName,
+
+        String lastName,
+
+        @Email(message = "Email is invalid")
+        String email,
+
+        Address address,
+
+        @Schema(description = "Versão lida pelo cliente; quando informada, a atualização só é aplicada se o documento ainda estiver nessa versão.")
+        Long version
+) {
+}
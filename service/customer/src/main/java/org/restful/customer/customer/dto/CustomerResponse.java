@@ -1,14 +1,19 @@
 package org.restful.customer.customer.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.restful.customer.customer.entity.Address;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
 @Schema(description = "DTO para respostas relacionadas a operações de clientes.")
+@JsonInclude(NON_NULL)
 public record CustomerResponse(
         String id,
         String firstName,
         String lastName,
         String email,
-        Address address
+        Address address,
+        Long version
 ) {
 }
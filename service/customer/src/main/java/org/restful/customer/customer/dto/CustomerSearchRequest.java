@@ -0,0 +1,31 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.stream.Stream;
+
+@Schema(description = "Critérios da busca de clientes; todos os critérios informados precisam ser atendidos.")
+public record CustomerSearchRequest(
+
+        @Schema(description = "Termos buscados no índice de texto (nome, sobrenome, email e cidade); ordena por relevância.")
+        String q,
+
+        @Schema(description = "Prefixo do nome (diferencia maiúsculas de minúsculas).")
+        String firstName,
+
+        @Schema(description = "Prefixo do sobrenome (diferencia maiúsculas de minúsculas).")
+        String lastName,
+
+        @Schema(description = "Prefixo do email (diferencia maiúsculas de minúsculas).")
+        String email,
+
+        String city,
+        String state,
+        String country
+) {
+
+    public boolean isEmpty() {
+        return Stream.of(q, firstName, lastName, email, city, state, country)
+                .allMatch(value -> value == null || value.isBlank());
+    }
+}
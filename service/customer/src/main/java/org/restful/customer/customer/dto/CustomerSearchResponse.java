@@ -0,0 +1,15 @@
+package org.restful.customer.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO para uma página de resultados da busca de clientes.")
+public record CustomerSearchResponse(
+        List<CustomerResponse> content,
+        int page,
+
+        @Schema(description = "Indica se há uma próxima página; o total não é calculado para não contar todos os resultados.")
+        boolean hasNext
+) {
+}
@@ -1,6 +1,7 @@
 package org.restful.customer.customer.entity;
 
 import lombok.*;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.validation.annotation.Validated;
 
 @AllArgsConstructor
@@ -11,6 +12,7 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class Address {
     private String street;
+    @TextIndexed
     private String city;
     private String state;
     private String zip;
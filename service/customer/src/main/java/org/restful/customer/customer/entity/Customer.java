@@ -3,6 +3,10 @@ package org.restful.customer.customer.entity;
 import lombok.*;
 import org.restful.customer.customer.repository.CustomerRepository;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @AllArgsConstructor
@@ -10,13 +14,24 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Builder
 @Getter
 @Setter
-@Document
+@Document(language = "none")
+@CompoundIndex(name = "firstname_lastname", def = "{'firstname': 1, 'lastname': 1}")
+@CompoundIndex(name = "lastname_firstname", def = "{'lastname': 1, 'firstname': 1}")
+@CompoundIndex(name = "address_city_state", def = "{'address.city': 1, 'address.state': 1}")
+@CompoundIndex(name = "address_country_state", def = "{'address.country': 1, 'address.state': 1}")
 public class Customer {
 
     @Id
     private String id;
+    @TextIndexed(weight = 3)
     private String firstname;
+    @TextIndexed(weight = 3)
     private String lastname;
+    @Indexed(name = "email_unique", unique = true)
+    @TextIndexed(weight = 2)
     private String email;
     private Address address;
+
+    @Version
+    private Long version;
 }
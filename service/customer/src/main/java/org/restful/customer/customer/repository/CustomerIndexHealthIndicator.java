@@ -0,0 +1,32 @@
+package org.restful.customer.customer.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Resultado da criação dos índices pelo {@link CustomerIndexInitializer}, exposto em {@code /actuator/health}:
+ * {@code UNKNOWN} enquanto os índices não foram garantidos e {@code DOWN} se a criação falhou.
+ */
+@Component("customerIndexHealthIndicator")
+@Schema(description = "Indicador de saúde dos índices da coleção de clientes.")
+public class CustomerIndexHealthIndicator implements HealthIndicator {
+
+    private volatile Health health = Health.unknown().withDetail("indexes", "pending").build();
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    void ensured(List<String> indexes) {
+        health = Health.up().withDetail("indexes", indexes).build();
+    }
+
+    void failed(Exception exception) {
+        health = Health.down(exception).build();
+    }
+}
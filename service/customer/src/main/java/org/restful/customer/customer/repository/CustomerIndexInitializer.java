@@ -0,0 +1,58 @@
+package org.restful.customer.customer.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.restful.customer.customer.entity.Customer;
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Cria na inicialização os índices declarados nas anotações de {@link Customer}
+ * ({@code @Indexed}, {@code @CompoundIndex}, {@code @TextIndexed}), já que a criação automática de índices do
+ * Spring Data está desabilitada.
+ * <p>
+ * A unicidade do email depende do índice {@code email_unique}: sem ele, dois cadastros com o mesmo email são
+ * aceitos em vez de um deles receber 409. Como a criação roda em segundo plano, o resultado é publicado no
+ * {@link CustomerIndexHealthIndicator}: com a criação falhando, a instância fica {@code DOWN} em
+ * {@code /actuator/health} e o orquestrador a tira de circulação.
+ */
+@Component("customerIndexInitializer")
+@RequiredArgsConstructor
+@Schema(description = "Garante os índices da coleção de clientes na inicialização da aplicação.")
+public class CustomerIndexInitializer {
+
+    private static final Logger logger = getLogger(CustomerIndexInitializer.class);
+
+    private final MongoOperations mongoOperations;
+    private final MongoMappingContext mongoMappingContext;
+    private final CustomerIndexHealthIndicator customerIndexHealthIndicator;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOperations = mongoOperations.indexOps(Customer.class);
+            List<String> indexes = new ArrayList<>();
+            new MongoPersistentEntityIndexResolver(mongoMappingContext)
+                    .resolveIndexFor(Customer.class)
+                    .forEach(index -> indexes.add(indexOperations.ensureIndex(index)));
+            logger.info("Índices {} garantidos na coleção de clientes.", indexes);
+            customerIndexHealthIndicator.ensured(indexes);
+        } catch (Exception e) {
+            logger.error("Erro ao criar os índices da coleção de clientes: ", e);
+            customerIndexHealthIndicator.failed(e);
+        }
+    }
+}
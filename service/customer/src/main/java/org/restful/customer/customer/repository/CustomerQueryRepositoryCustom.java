@@ -0,0 +1,54 @@
+package org.restful.customer.customer.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.customer.customer.dto.CustomerField;
+import org.restful.customer.customer.dto.CustomerJson;
+import org.restful.customer.customer.dto.CustomerSearchRequest;
+import org.restful.customer.customer.entity.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.Set;
+
+@Schema(description = "Consultas do repositório de leitura de clientes implementadas diretamente sobre o MongoOperations.")
+public interface CustomerQueryRepositoryCustom {
+
+    /**
+     * Busca o cliente trazendo do MongoDB apenas as propriedades correspondentes a {@code fields}; as demais
+     * ficam nulas na entidade devolvida.
+     */
+    Optional<Customer> findProjectedById(String customerId, Set<CustomerField> fields);
+
+    /**
+     * Página por cursor (keyset sobre o {@code _id}) trazendo apenas as propriedades correspondentes a
+     * {@code fields}. O {@code _id} é sempre lido, pois é o cursor da próxima página.
+     */
+    Slice<Customer> findProjectedPage(String after, int limit, Set<CustomerField> fields);
+
+    /**
+     * Busca clientes combinando texto (índice de texto, ordenado por relevância), prefixos ancorados de nome,
+     * sobrenome e email e igualdade nos campos do endereço. Sem texto, ordena pelo campo do prefixo informado,
+     * de modo que o mesmo índice atenda filtro e ordenação.
+     */
+    Slice<Customer> search(CustomerSearchRequest search, Pageable pageable);
+
+    /**
+     * Lê o cliente como BSON bruto, já no formato de {@code CustomerResponse} (projeção calculada no servidor), e
+     * o converte direto para JSON (UTF-8), sem materializar {@link Customer} nem {@code CustomerResponse}. A versão
+     * é lida do próprio BSON, para que o modo bruto também possa responder com ETag.
+     */
+    Optional<CustomerJson> findJsonById(String customerId);
+
+    /**
+     * Monta uma página no formato de {@code CustomerPageResponse} diretamente do BSON bruto.
+     */
+    byte[] findJsonPage(String after, int limit);
+
+    /**
+     * Escreve todos os clientes como NDJSON, convertendo cada documento do cursor de BSON bruto direto para JSON.
+     */
+    void writeAllAsJson(OutputStream outputStream) throws IOException;
+}
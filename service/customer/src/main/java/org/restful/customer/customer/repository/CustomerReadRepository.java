@@ -0,0 +1,36 @@
+package org.restful.customer.customer.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.customer.customer.entity.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Lado de consultas: repositório somente leitura criado sobre um {@code MongoTemplate} com a preferência de leitura
+ * de {@code customer.read.preference} (ver {@code CustomerReadModelConfig}), de modo que as consultas possam ser
+ * atendidas pelas secundárias, dentro do atraso máximo configurado, sem carregar o primário.
+ */
+@NoRepositoryBean
+@Schema(description = "Repositório de leitura para a entidade Customer.")
+public interface CustomerReadRepository extends Repository<Customer, String>, CustomerQueryRepositoryCustom {
+
+    Optional<Customer> findById(String id);
+
+    List<Customer> findAllById(Iterable<String> ids);
+
+    Optional<Customer> findByEmail(String email);
+
+    Slice<Customer> findAllBy(Pageable pageable);
+
+    Slice<Customer> findByIdGreaterThan(String id, Pageable pageable);
+
+    @Meta(cursorBatchSize = 500)
+    Stream<Customer> streamAllBy();
+}
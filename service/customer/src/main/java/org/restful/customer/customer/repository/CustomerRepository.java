@@ -2,10 +2,31 @@ package org.restful.customer.customer.repository;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.restful.customer.customer.entity.Customer;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Lado de comandos: todas as escritas (e as leituras que precisam ver a última escrita, como o aquecimento do
+ * {@code CustomerIdFilter}, que não pode perder IDs, as cargas do {@code CustomerCache} e as confirmações de
+ * existência) passam por este repositório, que usa o {@code MongoTemplate}
+ * padrão e, portanto, sempre o primário. As consultas ficam em {@link CustomerReadRepository}.
+ */
 @Repository("customerRepository")
 @Schema(description = "Repositório para a entidade Customer.")
-public interface CustomerRepository extends MongoRepository<Customer, String> {
+public interface CustomerRepository extends MongoRepository<Customer, String>, CustomerRepositoryCustom {
+
+    @Meta(cursorBatchSize = 10_000)
+    @Query(value = "{}", fields = "{ '_id' : 1 }")
+    Stream<Customer> streamIdsBy();
+
+    Optional<Customer> findByEmail(String email);
+
+    long deleteByIdAndVersion(String id, Long version);
+
+    long removeById(String id);
 }
@@ -0,0 +1,28 @@
+package org.restful.customer.customer.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.customer.customer.entity.Customer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Schema(description = "Operações de escrita do repositório de clientes implementadas diretamente sobre o MongoOperations.")
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Aplica os campos não nulos de {@code changes} (inclusive os do endereço) com um único {@code $set} atômico
+     * e incrementa a versão. Quando {@code expectedVersion} é informado, o documento só é alterado se ainda
+     * estiver nessa versão.
+     *
+     * @return o cliente já atualizado, ou vazio se nenhum documento corresponder ao ID e à versão
+     */
+    Optional<Customer> updateNonNullFields(String customerId, Long expectedVersion, Customer changes);
+
+    /**
+     * Insere os clientes com um único {@code bulkWrite} não ordenado; uma falha não interrompe os demais.
+     *
+     * @return as mensagens de erro indexadas pela posição do cliente na lista
+     */
+    Map<Integer, String> insertUnordered(List<Customer> customers);
+}
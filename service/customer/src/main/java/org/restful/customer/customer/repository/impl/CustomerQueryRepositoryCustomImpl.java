@@ -0,0 +1,199 @@
+package org.restful.customer.customer.repository.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.restful.customer.customer.dto.CustomerField;
+import org.restful.customer.customer.dto.CustomerJson;
+import org.restful.customer.customer.dto.CustomerSearchRequest;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerQueryRepositoryCustom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.ReadPreferenceAware;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextQuery;
+
+import java.io.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Sorts.ascending;
+import static java.util.Optional.ofNullable;
+import static org.springframework.data.domain.Pageable.ofSize;
+import static org.springframework.data.domain.Sort.by;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.core.query.TextCriteria.forDefaultLanguage;
+import static org.springframework.util.StringUtils.hasText;
+
+@RequiredArgsConstructor
+@Schema(description = "Implementação das consultas customizadas do repositório de leitura de clientes.")
+public class CustomerQueryRepositoryCustomImpl implements CustomerQueryRepositoryCustom {
+
+    /**
+     * Projeção calculada pelo MongoDB que devolve o documento já com os nomes de campo de {@code CustomerResponse}.
+     */
+    private static final Document RESPONSE_FIELDS = new Document("_id", 0)
+            .append("id", new Document("$toString", "$_id"))
+            .append("firstName", "$firstname")
+            .append("lastName", "$lastname")
+            .append("email", 1)
+            .append("address", 1)
+            .append("version", 1);
+
+    private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public Optional<Customer> findProjectedById(String customerId, Set<CustomerField> fields) {
+        return ofNullable(mongoOperations.findOne(project(query(where("id").is(customerId)), fields), Customer.class));
+    }
+
+    @Override
+    public Slice<Customer> findProjectedPage(String after, int limit, Set<CustomerField> fields) {
+        Criteria criteria = after == null ? new Criteria() : where("id").gt(after);
+        Query query = project(query(criteria).with(by("id")).limit(limit + 1), fields);
+
+        List<Customer> customers = mongoOperations.find(query, Customer.class);
+        boolean hasNext = customers.size() > limit;
+        return new SliceImpl<>(hasNext ? customers.subList(0, limit) : customers, ofSize(limit), hasNext);
+    }
+
+    @Override
+    public Slice<Customer> search(CustomerSearchRequest search, Pageable pageable) {
+        Query query = hasText(search.q())
+                ? TextQuery.queryText(forDefaultLanguage().matching(search.q())).sortByScore()
+                : new Query();
+
+        startsWith(query, "firstname", search.firstName());
+        startsWith(query, "lastname", search.lastName());
+        startsWith(query, "email", search.email());
+        equalTo(query, "address.city", search.city());
+        equalTo(query, "address.state", search.state());
+        equalTo(query, "address.country", search.country());
+
+        if (!hasText(search.q())) {
+            if (hasText(search.lastName())) query.with(by("lastname", "firstname"));
+            else if (hasText(search.firstName())) query.with(by("firstname", "lastname"));
+            else if (hasText(search.email())) query.with(by("email"));
+        }
+        query.with(by("id")).skip(pageable.getOffset()).limit(pageable.getPageSize() + 1);
+
+        List<Customer> customers = mongoOperations.find(query, Customer.class);
+        boolean hasNext = customers.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? customers.subList(0, pageable.getPageSize()) : customers, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<CustomerJson> findJsonById(String customerId) {
+        Object id = ObjectId.isValid(customerId) ? new ObjectId(customerId) : customerId;
+        RawBsonDocument document = rawCollection()
+                .find(eq("_id", id))
+                .projection(RESPONSE_FIELDS)
+                .first();
+        if (document == null) return Optional.empty();
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream(document.getByteBuffer().remaining());
+        try (JsonGenerator generator = RawBsonJson.createGenerator(json)) {
+            RawBsonJson.write(document, generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        BsonValue version = document.get("version");
+        return Optional.of(new CustomerJson(json.toByteArray(), version != null && version.isNumber() ? version.asNumber().longValue() : null));
+    }
+
+    @Override
+    public byte[] findJsonPage(String after, int limit) {
+        Bson filter = after == null ? new Document() : gt("_id", new ObjectId(after));
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+
+        try (JsonGenerator generator = RawBsonJson.createGenerator(json);
+             MongoCursor<RawBsonDocument> cursor = rawCollection()
+                     .find(filter)
+                     .projection(RESPONSE_FIELDS)
+                     .sort(ascending("_id"))
+                     .limit(limit + 1)
+                     .cursor()) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            String last = null;
+            boolean hasNext = false;
+            for (int written = 0; cursor.hasNext(); written++) {
+                RawBsonDocument document = cursor.next();
+                if (written == limit) {
+                    hasNext = true;
+                    break;
+                }
+                RawBsonJson.write(document, generator);
+                last = document.getString("id").getValue();
+            }
+            generator.writeEndArray();
+            generator.writeStringField("next", hasNext ? last : null);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return json.toByteArray();
+    }
+
+    @Override
+    public void writeAllAsJson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = RawBsonJson.createGenerator(outputStream);
+             MongoCursor<RawBsonDocument> cursor = rawCollection()
+                     .find()
+                     .projection(RESPONSE_FIELDS)
+                     .batchSize(500)
+                     .cursor()) {
+            while (cursor.hasNext()) {
+                RawBsonJson.write(cursor.next(), generator);
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * O {@code getCollection} do template não aplica a preferência de leitura dele; por isso ela é repassada aqui,
+     * para que as leituras em BSON bruto sigam a mesma rota (primário ou secundárias) das demais consultas.
+     */
+    private MongoCollection<RawBsonDocument> rawCollection() {
+        MongoCollection<RawBsonDocument> collection = mongoOperations.getCollection(mongoOperations.getCollectionName(Customer.class))
+                .withDocumentClass(RawBsonDocument.class);
+        return mongoOperations instanceof ReadPreferenceAware template && template.hasReadPreference()
+                ? collection.withReadPreference(template.getReadPreference())
+                : collection;
+    }
+
+    private static Query project(Query query, Set<CustomerField> fields) {
+        fields.forEach(field -> query.fields().include(field.property()));
+        return query;
+    }
+
+    /**
+     * Prefixo ancorado e sem metacaracteres de regex, para que o MongoDB o resolva como intervalo no índice.
+     */
+    private static void startsWith(Query query, String property, String prefix) {
+        if (hasText(prefix))
+            query.addCriteria(where(property).regex("^" + REGEX_METACHARACTERS.matcher(prefix).replaceAll("\\\\$0")));
+    }
+
+    private static void equalTo(Query query, String property, String value) {
+        if (hasText(value)) query.addCriteria(where(property).is(value));
+    }
+}
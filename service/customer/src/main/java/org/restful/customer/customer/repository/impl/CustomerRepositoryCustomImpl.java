@@ -0,0 +1,72 @@
+package org.restful.customer.customer.repository.impl;
+
+import com.mongodb.bulk.BulkWriteError;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.restful.customer.customer.entity.Address;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerRepositoryCustom;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.mongodb.core.BulkOperations.BulkMode.UNORDERED;
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@RequiredArgsConstructor
+@Schema(description = "Implementação das operações customizadas do repositório de clientes.")
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public Optional<Customer> updateNonNullFields(String customerId, Long expectedVersion, Customer changes) {
+        Criteria criteria = where("id").is(customerId);
+        if (expectedVersion != null) criteria.and("version").is(expectedVersion);
+
+        Update update = new Update();
+        ofNullable(changes.getFirstname()).ifPresent(value -> update.set("firstname", value));
+        ofNullable(changes.getLastname()).ifPresent(value -> update.set("lastname", value));
+        ofNullable(changes.getEmail()).ifPresent(value -> update.set("email", value));
+        ofNullable(changes.getAddress()).ifPresent(address -> setAddress(update, address));
+        update.inc("version", 1);
+
+        return ofNullable(mongoOperations.findAndModify(
+                query(criteria),
+                update,
+                options().returnNew(true),
+                Customer.class
+        ));
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Customer> customers) {
+        try {
+            mongoOperations.bulkOps(UNORDERED, Customer.class)
+                    .insert(customers)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors()
+                    .stream()
+                    .collect(toMap(BulkWriteError::getIndex, BulkWriteError::getMessage));
+        }
+    }
+
+    private static void setAddress(Update update, Address address) {
+        ofNullable(address.getStreet()).ifPresent(value -> update.set("address.street", value));
+        ofNullable(address.getCity()).ifPresent(value -> update.set("address.city", value));
+        ofNullable(address.getState()).ifPresent(value -> update.set("address.state", value));
+        ofNullable(address.getZip()).ifPresent(value -> update.set("address.zip", value));
+        ofNullable(address.getCountry()).ifPresent(value -> update.set("address.country", value));
+    }
+}
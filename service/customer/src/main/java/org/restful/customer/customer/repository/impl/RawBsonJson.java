@@ -0,0 +1,82 @@
+package org.restful.customer.customer.repository.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+import static org.bson.BsonType.END_OF_DOCUMENT;
+
+/**
+ * Converte BSON bruto em JSON percorrendo o documento com um {@link BsonBinaryReader} e escrevendo cada token
+ * direto em um {@link JsonGenerator}, sem montar nenhum objeto intermediário. ObjectIds viram a string hexadecimal
+ * e datas viram ISO-8601, como o Jackson serializaria os campos correspondentes dos DTOs.
+ */
+@Schema(description = "Conversão direta de BSON bruto para JSON.")
+public final class RawBsonJson {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private RawBsonJson() {
+    }
+
+    public static JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return JSON_FACTORY.createGenerator(outputStream);
+    }
+
+    public static void write(RawBsonDocument document, JsonGenerator generator) throws IOException {
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            writeDocument(reader, generator);
+        }
+    }
+
+    private static void writeDocument(BsonReader reader, JsonGenerator generator) throws IOException {
+        reader.readStartDocument();
+        generator.writeStartObject();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            generator.writeFieldName(reader.readName());
+            writeValue(reader, generator);
+        }
+        reader.readEndDocument();
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(BsonReader reader, JsonGenerator generator) throws IOException {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT -> writeDocument(reader, generator);
+            case ARRAY -> {
+                reader.readStartArray();
+                generator.writeStartArray();
+                while (reader.readBsonType() != END_OF_DOCUMENT)
+                    writeValue(reader, generator);
+                reader.readEndArray();
+                generator.writeEndArray();
+            }
+            case STRING -> generator.writeString(reader.readString());
+            case OBJECT_ID -> generator.writeString(reader.readObjectId().toHexString());
+            case INT32 -> generator.writeNumber(reader.readInt32());
+            case INT64 -> generator.writeNumber(reader.readInt64());
+            case DOUBLE -> generator.writeNumber(reader.readDouble());
+            case DECIMAL128 -> generator.writeNumber(reader.readDecimal128().bigDecimalValue());
+            case BOOLEAN -> generator.writeBoolean(reader.readBoolean());
+            case DATE_TIME -> generator.writeString(Instant.ofEpochMilli(reader.readDateTime()).toString());
+            case NULL -> {
+                reader.readNull();
+                generator.writeNull();
+            }
+            default -> {
+                reader.skipValue();
+                generator.writeNull();
+            }
+        }
+    }
+}
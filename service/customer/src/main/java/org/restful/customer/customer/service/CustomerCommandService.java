@@ -0,0 +1,20 @@
+package org.restful.customer.customer.service;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import org.restful.customer.customer.dto.BulkCustomerResponse;
+import org.restful.customer.customer.dto.CustomerPatchRequest;
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.customer.dto.CustomerResponse;
+
+import java.util.Iterator;
+
+@Schema(description = "Interface de serviço para os comandos de clientes (lado de escrita do CQRS).")
+public interface CustomerCommandService {
+
+    String createCustomer(@Valid CustomerRequest customerDto);
+    BulkCustomerResponse createCustomers(Iterator<CustomerRequest> customerDtos);
+    CustomerResponse updateCustomer(@Valid CustomerRequest customerDto, Long expectedVersion);
+    CustomerResponse patchCustomer(String customerId, @Valid CustomerPatchRequest customerDto);
+    boolean deleteCustomer(String customerId, Long expectedVersion);
+}
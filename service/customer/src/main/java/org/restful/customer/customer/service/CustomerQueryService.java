@@ -0,0 +1,31 @@
+package org.restful.customer.customer.service;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.customer.customer.dto.CustomerBatchResponse;
+import org.restful.customer.customer.dto.CustomerField;
+import org.restful.customer.customer.dto.CustomerJson;
+import org.restful.customer.customer.dto.CustomerPageResponse;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.restful.customer.customer.dto.CustomerSearchRequest;
+import org.restful.customer.customer.dto.CustomerSearchResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Schema(description = "Interface de serviço para as consultas de clientes (lado de leitura do CQRS).")
+public interface CustomerQueryService {
+
+    CustomerPageResponse findAllCustomers(String after, int limit, Set<CustomerField> fields);
+    Stream<CustomerResponse> streamAllCustomers();
+    byte[] findAllCustomersAsJson(String after, int limit);
+    void writeAllCustomersAsJson(OutputStream outputStream) throws IOException;
+    Boolean existsById(String customerId);
+    CustomerResponse findCustomerById(String customerId, Set<CustomerField> fields);
+    CustomerJson findCustomerJsonById(String customerId);
+    CustomerBatchResponse findCustomersByIds(List<String> customerIds);
+    CustomerSearchResponse searchCustomers(CustomerSearchRequest search, int page, int size);
+    CustomerResponse findCustomerByEmail(String email);
+}
@@ -0,0 +1,196 @@
+package org.restful.customer.customer.service.impl;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.restful.customer.customer.cache.CustomerCache;
+import org.restful.customer.customer.cache.CustomerIdFilter;
+import org.restful.customer.customer.dto.BulkCustomerResponse;
+import org.restful.customer.customer.dto.BulkCustomerResult;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.dto.CustomerPatchRequest;
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerRepository;
+import org.restful.customer.customer.service.CustomerCommandService;
+import org.restful.customer.exception.ConcurrentUpdateException;
+import org.restful.customer.exception.CustomerNotFoundException;
+import org.restful.customer.exception.DuplicateEntryException;
+import org.restful.customer.exception.PreconditionFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Lado de escrita do CQRS: os comandos usam o {@link CustomerRepository}, sempre no primário, e gravam o
+ * resultado no {@link CustomerCache}, para que a consulta por ID logo após uma escrita não dependa de as
+ * secundárias já terem replicado a alteração.
+ */
+@Service("customerCommandService")
+@RequiredArgsConstructor
+@Schema(description = "Implementação da interface CustomerCommandService.")
+public class CustomerCommandServiceImpl implements CustomerCommandService {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final CustomerIdFilter customerIdFilter;
+    private final CustomerCache customerCache;
+    private final Validator validator;
+
+    @Value("${customer.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
+
+    public String createCustomer(@Valid CustomerRequest customerDto) {
+        Customer customer = customerMapper.toCustomer(customerDto);
+        try {
+            customerRepository.save(customer);
+        } catch (DuplicateKeyException e) {
+            throw duplicateEmail(customerDto.email());
+        }
+        customerIdFilter.put(customer.getId());
+        customerCache.put(customerMapper.fromCustomer(customer));
+        return customer.getId();
+    }
+
+    @Override
+    public BulkCustomerResponse createCustomers(Iterator<CustomerRequest> customerDtos) {
+        List<BulkCustomerResult> results = new ArrayList<>();
+        List<PendingCustomer> chunk = new ArrayList<>(bulkChunkSize);
+
+        for (int index = 0; ; index++) {
+            CustomerRequest customerDto;
+            try {
+                if (!customerDtos.hasNext()) break;
+                customerDto = customerDtos.next();
+            } catch (RuntimeException e) {
+                chunk.add(new PendingCustomer(index, null, format("Malformed customer: %s", e.getMessage())));
+                break;
+            }
+
+            Set<ConstraintViolation<CustomerRequest>> violations = validator.validate(customerDto);
+            chunk.add(violations.isEmpty()
+                    ? new PendingCustomer(index, toNewCustomer(customerDto), null)
+                    : new PendingCustomer(index, null, describe(violations)));
+
+            if (chunk.size() == bulkChunkSize) {
+                flush(chunk, results);
+                chunk.clear();
+            }
+        }
+        flush(chunk, results);
+
+        int failed = (int) results.stream().filter(result -> result.error() != null).count();
+        return new BulkCustomerResponse(results.size() - failed, failed, results);
+    }
+
+    @Override
+    public CustomerResponse updateCustomer(
+            @RequestBody @Valid CustomerRequest customerDto,
+            Long expectedVersion
+    ) {
+        CustomerResponse customer = applyUpdate(customerDto.id(), expectedVersion, customerMapper.toCustomer(customerDto))
+                .map(customerMapper::fromCustomer)
+                .orElseThrow(() -> expectedVersion != null && customerRepository.existsById(customerDto.id())
+                        ? preconditionFailed(customerDto.id(), expectedVersion)
+                        : new CustomerNotFoundException(format("Customer with id %s not found", customerDto.id())));
+        customerCache.put(customer);
+        return customer;
+    }
+
+    @Override
+    public CustomerResponse patchCustomer(String customerId, @Valid CustomerPatchRequest customerDto) {
+        CustomerResponse customer = applyUpdate(customerId, customerDto.version(), customerMapper.toCustomer(customerDto))
+                .map(customerMapper::fromCustomer)
+                .orElseThrow(() -> customerDto.version() != null && customerRepository.existsById(customerId)
+                        ? new ConcurrentUpdateException(format("Customer with id %s was modified after version %d", customerId, customerDto.version()))
+                        : new CustomerNotFoundException(format("Customer with id %s not found", customerId)));
+        customerCache.put(customer);
+        return customer;
+    }
+
+    @Override
+    public boolean deleteCustomer(String customerId, Long expectedVersion) {
+        boolean deleted = true;
+        if (expectedVersion == null) {
+            deleted = customerRepository.removeById(customerId) > 0;
+        } else if (customerRepository.deleteByIdAndVersion(customerId, expectedVersion) == 0) {
+            if (customerRepository.existsById(customerId)) throw preconditionFailed(customerId, expectedVersion);
+            throw new CustomerNotFoundException(format("Customer with id %s not found", customerId));
+        }
+        customerCache.putMissing(customerId);
+        return deleted;
+    }
+
+    private Optional<Customer> applyUpdate(String customerId, Long expectedVersion, Customer changes) {
+        try {
+            return customerRepository.updateNonNullFields(customerId, expectedVersion, changes);
+        } catch (DuplicateKeyException e) {
+            throw duplicateEmail(changes.getEmail());
+        }
+    }
+
+    private Customer toNewCustomer(CustomerRequest customerDto) {
+        Customer customer = customerMapper.toCustomer(customerDto);
+        customer.setId(new ObjectId().toHexString());
+        customer.setVersion(0L);
+        return customer;
+    }
+
+    private void flush(List<PendingCustomer> chunk, List<BulkCustomerResult> results) {
+        List<Customer> customers = chunk.stream()
+                .filter(pending -> pending.customer() != null)
+                .map(PendingCustomer::customer)
+                .toList();
+        Map<Integer, String> failures = customers.isEmpty() ? Map.of() : customerRepository.insertUnordered(customers);
+
+        int position = 0;
+        for (PendingCustomer pending : chunk) {
+            if (pending.customer() == null) {
+                results.add(new BulkCustomerResult(pending.index(), null, pending.error()));
+                continue;
+            }
+            String failure = failures.get(position++);
+            if (failure == null) {
+                customerIdFilter.put(pending.customer().getId());
+                customerCache.put(customerMapper.fromCustomer(pending.customer()));
+                results.add(new BulkCustomerResult(pending.index(), pending.customer().getId(), null));
+            } else {
+                results.add(new BulkCustomerResult(pending.index(), null, failure));
+            }
+        }
+    }
+
+    private static PreconditionFailedException preconditionFailed(String customerId, long expectedVersion) {
+        return new PreconditionFailedException(format("Customer with id %s is no longer at version %d", customerId, expectedVersion));
+    }
+
+    private static DuplicateEntryException duplicateEmail(String email) {
+        return new DuplicateEntryException(format("Customer with email %s already exists", email));
+    }
+
+    private static String describe(Set<ConstraintViolation<CustomerRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(joining("; "));
+    }
+
+    private record PendingCustomer(int index, Customer customer, String error) {
+    }
+}
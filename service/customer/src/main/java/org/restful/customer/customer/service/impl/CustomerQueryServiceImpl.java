@@ -0,0 +1,173 @@
+package org.restful.customer.customer.service.impl;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.restful.customer.customer.cache.CustomerCache;
+import org.restful.customer.customer.cache.CustomerIdFilter;
+import org.restful.customer.customer.dto.CustomerBatchResponse;
+import org.restful.customer.customer.dto.CustomerField;
+import org.restful.customer.customer.dto.CustomerJson;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.dto.CustomerPageResponse;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.restful.customer.customer.dto.CustomerSearchRequest;
+import org.restful.customer.customer.dto.CustomerSearchResponse;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerReadRepository;
+import org.restful.customer.customer.repository.CustomerRepository;
+import org.restful.customer.customer.service.CustomerQueryService;
+import org.restful.customer.exception.CustomerNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static org.springframework.data.domain.PageRequest.of;
+import static org.springframework.data.domain.Sort.by;
+
+/**
+ * Lado de leitura do CQRS: todas as consultas usam o {@link CustomerReadRepository}, que segue
+ * {@code customer.read.preference}; com uma preferência que lê das secundárias, os resultados podem estar
+ * atrasados em relação ao primário por até {@code customer.read.max-staleness}.
+ * <p>
+ * As respostas que diriam que um cliente não existe são confirmadas no primário ({@link CustomerRepository}, direto
+ * ou pelo {@link CustomerCache}): um cliente recém-criado ainda ausente da secundária não pode virar um 404 ou um
+ * {@code false} para quem acabou de criá-lo.
+ * <p>
+ * A busca pagina com {@code skip}, e o MongoDB percorre e descarta tudo o que vem antes da página pedida; por isso
+ * ela alcança no máximo {@code MAX_SEARCH_RESULTS} resultados. Para ler todos os clientes use a listagem por cursor.
+ */
+@Service("customerQueryService")
+@RequiredArgsConstructor
+@Schema(description = "Implementação da interface CustomerQueryService.")
+public class CustomerQueryServiceImpl implements CustomerQueryService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
+    private final CustomerReadRepository customerReadRepository;
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final CustomerIdFilter customerIdFilter;
+    private final CustomerCache customerCache;
+
+    @Override
+    public CustomerPageResponse findAllCustomers(String after, int limit, Set<CustomerField> fields) {
+        validatePage(after, limit);
+        Pageable pageable = of(0, limit, by("id"));
+        Slice<Customer> slice;
+        if (fields != null) slice = customerReadRepository.findProjectedPage(after, limit, fields);
+        else if (after == null) slice = customerReadRepository.findAllBy(pageable);
+        else slice = customerReadRepository.findByIdGreaterThan(after, pageable);
+
+        List<Customer> customers = slice.getContent();
+        String next = slice.hasNext() ? customers.get(customers.size() - 1).getId() : null;
+        List<CustomerResponse> content = customers.stream()
+                .map(customer -> customerMapper.select(customerMapper.fromCustomer(customer), fields))
+                .toList();
+        return new CustomerPageResponse(content, next);
+    }
+
+    @Override
+    public Stream<CustomerResponse> streamAllCustomers() {
+        return customerReadRepository.streamAllBy()
+                .map(customerMapper::fromCustomer);
+    }
+
+    @Override
+    public byte[] findAllCustomersAsJson(String after, int limit) {
+        validatePage(after, limit);
+        return customerReadRepository.findJsonPage(after, limit);
+    }
+
+    @Override
+    public void writeAllCustomersAsJson(OutputStream outputStream) throws IOException {
+        customerReadRepository.writeAllAsJson(outputStream);
+    }
+
+    @Override
+    public Boolean existsById(String customerId) {
+        if (!customerIdFilter.mightContain(customerId)) return false;
+
+        boolean exists = customerRepository.existsById(customerId);
+        customerIdFilter.recordConfirmation(customerId, exists);
+        return exists;
+    }
+
+    @Override
+    public CustomerResponse findCustomerById(String customerId, Set<CustomerField> fields) {
+        if (fields == null) return customerCache.get(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(format("Customer with id %s not found", customerId)));
+
+        return customerCache.getIfCached(customerId)
+                .or(() -> customerReadRepository.findProjectedById(customerId, fields).map(customerMapper::fromCustomer))
+                .or(() -> customerCache.get(customerId))
+                .map(customer -> customerMapper.select(customer, fields))
+                .orElseThrow(() -> new CustomerNotFoundException(format("Customer with id %s not found", customerId)));
+    }
+
+    @Override
+    public CustomerJson findCustomerJsonById(String customerId) {
+        return customerReadRepository.findJsonById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(format("Customer with id %s not found", customerId)));
+    }
+
+    @Override
+    public CustomerBatchResponse findCustomersByIds(List<String> customerIds) {
+        Set<String> distinctIds = new LinkedHashSet<>(customerIds);
+        Map<String, Optional<CustomerResponse>> resolved = customerCache.getAll(distinctIds);
+
+        List<CustomerResponse> customers = new ArrayList<>(distinctIds.size());
+        List<String> missing = new ArrayList<>();
+        for (String customerId : distinctIds) {
+            resolved.get(customerId).ifPresentOrElse(customers::add, () -> missing.add(customerId));
+        }
+        return new CustomerBatchResponse(customers, missing);
+    }
+
+    @Override
+    public CustomerSearchResponse searchCustomers(CustomerSearchRequest search, int page, int size) {
+        if (search.isEmpty())
+            throw new IllegalArgumentException("At least one search criterion is required");
+        if (page < 0)
+            throw new IllegalArgumentException("Page must not be negative");
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE)
+            throw new IllegalArgumentException(format("Size must be between 1 and %d", MAX_SEARCH_PAGE_SIZE));
+        if ((long) page * size >= MAX_SEARCH_RESULTS)
+            throw new IllegalArgumentException(format("Search results are limited to the first %d customers", MAX_SEARCH_RESULTS));
+
+        Slice<Customer> slice = customerReadRepository.search(search, of(page, size));
+        return new CustomerSearchResponse(
+                slice.map(customerMapper::fromCustomer).getContent(),
+                page,
+                slice.hasNext() && (long) (page + 1) * size < MAX_SEARCH_RESULTS
+        );
+    }
+
+    @Override
+    public CustomerResponse findCustomerByEmail(String email) {
+        return customerReadRepository.findByEmail(email)
+                .or(() -> customerRepository.findByEmail(email))
+                .map(customerMapper::fromCustomer)
+                .orElseThrow(() -> new CustomerNotFoundException(format("Customer with email %s not found", email)));
+    }
+
+    private static void validatePage(String after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException(format("Limit must be between 1 and %d", MAX_PAGE_SIZE));
+        if (after != null && !ObjectId.isValid(after))
+            throw new IllegalArgumentException(format("Invalid cursor %s", after));
+    }
+}
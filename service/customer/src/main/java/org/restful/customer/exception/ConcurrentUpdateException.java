@@ -0,0 +1,14 @@
+package org.restful.customer.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+@ResponseStatus(CONFLICT)
+@Schema(description = "Exceção lançada quando um cliente foi alterado por outra requisição desde a versão informada.")
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
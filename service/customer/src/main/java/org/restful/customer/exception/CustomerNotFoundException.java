@@ -9,6 +9,6 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 @Schema(description = "Exceção lançada quando um cliente não é encontrado no sistema.")
 public class CustomerNotFoundException extends RuntimeException {
     public CustomerNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,14 @@
+package org.restful.customer.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+
+@ResponseStatus(PRECONDITION_FAILED)
+@Schema(description = "Exceção lançada quando o ETag informado em If-Match não corresponde à versão atual do cliente.")
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,14 @@
 package org.restful.customer.handler;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.ws.rs.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.restful.customer.exception.ConcurrentUpdateException;
 import org.restful.customer.exception.CustomerNotFoundException;
 import org.restful.customer.exception.DuplicateEntryException;
+import org.restful.customer.exception.PreconditionFailedException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -21,14 +26,18 @@ import static org.springframework.http.HttpStatus.*;
 
 @Schema(description = "GlobalExceptionHandler")
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(BadRequestException.class)
     @Schema(description = "Manipula a exceção BadRequestException, lançada quando uma requisição malformada é recebida.")
     public ResponseEntity<List<ErrorDetails>> handleBadRequestException(
             BadRequestException exception,
             WebRequest webRequest
     ) {
+        countException(exception, "BAD_REQUEST");
         ErrorDetails errorDetails = new ErrorDetails(
                 now(),
                 exception.getMessage(),
@@ -45,6 +54,7 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException exception,
             WebRequest request
     ) {
+        countException(exception, "METHOD_ARGUMENT_NOT_VALID_ERROR");
         List<ValidationErrorDetails> errors = new ArrayList<>();
         for (FieldError error : exception.getBindingResult().getFieldErrors()) {
             errors.add(new ValidationErrorDetails(
@@ -64,6 +74,7 @@ public class GlobalExceptionHandler {
             IllegalArgumentException exception,
             WebRequest webRequest
     ) {
+        countException(exception, "INVALID_ARGUMENT");
         ErrorDetails errorDetails = new ErrorDetails(
                 now(),
                 exception.getMessage(),
@@ -80,6 +91,7 @@ public class GlobalExceptionHandler {
             CustomerNotFoundException exception,
             WebRequest webRequest
     ) {
+        countException(exception, "CUSTOMER_NOT_FOUND");
         ErrorDetails errorDetails = new ErrorDetails(
                 now(),
                 exception.getMessage(),
@@ -96,8 +108,23 @@ public class GlobalExceptionHandler {
             DuplicateEntryException exception,
             WebRequest webRequest
     ) {
+        countException(exception, "DUPLICATE_ENTRY");
+        return duplicateEntries(exception.getMessage(), webRequest);
+    }
+
+    @ExceptionHandler(DuplicateKeyException.class)
+    @Schema(description = "Manipula a exceção DuplicateKeyException do MongoDB, tratando a violação de um índice único como DuplicateEntryException.")
+    public ResponseEntity<List<ErrorDetails>> handleDuplicateKeyException(
+            DuplicateKeyException exception,
+            WebRequest webRequest
+    ) {
+        countException(exception, "DUPLICATE_ENTRY");
+        return duplicateEntries("Duplicate entry violates a unique index", webRequest);
+    }
+
+    private ResponseEntity<List<ErrorDetails>> duplicateEntries(String message, WebRequest webRequest) {
         List<ErrorDetails> errors = new ArrayList<>();
-        String[] mensagens = exception.getMessage().split("\\n");
+        String[] mensagens = message.split("\\n");
 
         for (String mensagem : mensagens) {
             errors.add(new ErrorDetails(
@@ -111,12 +138,47 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(CONFLICT).body(errors);
     }
 
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    @Schema(description = "Manipula a exceção ConcurrentUpdateException, lançada quando o cliente foi alterado desde a versão informada.")
+    public ResponseEntity<List<ErrorDetails>> handleConcurrentUpdateException(
+            ConcurrentUpdateException exception,
+            WebRequest webRequest
+    ) {
+        countException(exception, "CONCURRENT_UPDATE");
+        ErrorDetails errorDetails = new ErrorDetails(
+                now(),
+                exception.getMessage(),
+                webRequest.getDescription(false),
+                "CONCURRENT_UPDATE"
+        );
+
+        return new ResponseEntity<>(List.of(errorDetails), CONFLICT);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    @Schema(description = "Manipula a exceção PreconditionFailedException, lançada quando o ETag de If-Match não corresponde à versão atual do cliente.")
+    public ResponseEntity<List<ErrorDetails>> handlePreconditionFailedException(
+            PreconditionFailedException exception,
+            WebRequest webRequest
+    ) {
+        countException(exception, "PRECONDITION_FAILED");
+        ErrorDetails errorDetails = new ErrorDetails(
+                now(),
+                exception.getMessage(),
+                webRequest.getDescription(false),
+                "PRECONDITION_FAILED"
+        );
+
+        return new ResponseEntity<>(List.of(errorDetails), PRECONDITION_FAILED);
+    }
+
     @ExceptionHandler(HttpServerErrorException.InternalServerError.class)
     @Schema(description = "Manipula exceções genéricas, representando erros inesperados durante o processamento da requisição.")
     public ResponseEntity<List<ErrorDetails>> handleGlobalException(
             Exception exception,
             WebRequest webRequest
     ) {
+        countException(exception, "INTERNAL_SERVER_ERROR");
         ErrorDetails errorDetails = new ErrorDetails(
                 now(),
                 exception.getMessage(),
@@ -133,6 +195,7 @@ public class GlobalExceptionHandler {
             UnsupportedOperationException exception,
             WebRequest webRequest
     ) {
+        countException(exception, "NOT_IMPLEMENTED");
         ErrorDetails errorDetails = new ErrorDetails(
                 now(),
                 exception.getMessage(),
@@ -142,4 +205,9 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(List.of(errorDetails), NOT_IMPLEMENTED);
     }
+
+    private void countException(Exception exception, String code) {
+        meterRegistry.counter("customer.exceptions", "exception", exception.getClass().getSimpleName(), "code", code)
+                .increment();
+    }
 }
@@ -0,0 +1,96 @@
+package org.restful.customer.limiter;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.*;
+
+/**
+ * Limite de requisições simultâneas que se ajusta pela latência, no estilo do gradient limiter: compara a latência
+ * de longo prazo (média exponencial) com a da última requisição e multiplica o limite por esse gradiente, somando
+ * uma fila de {@code sqrt(limite)}. Enquanto a latência se mantém, o limite cresce; quando o MongoDB fica lento e a
+ * latência sobe, o limite cai até que a vazão volte a caber no banco. Respostas com erro de servidor reduzem o
+ * limite de forma multiplicativa (como no AIMD).
+ * <p>
+ * Só há aumento quando pelo menos metade do limite está em uso, para que um período ocioso não infle o limite.
+ */
+@Schema(description = "Limite adaptativo de concorrência baseado em latência.")
+public final class AdaptiveConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRtt;
+    private long samples;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException("Invalid concurrency limits");
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        for (int current = inFlight.get(); current < (int) limit; current = inFlight.get()) {
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Libera a vaga sem registrar amostra, para requisições cuja duração não reflete a carga (respostas
+     * assíncronas ou em streaming).
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion, dropped);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion, boolean dropped) {
+        double rtt = max(1, rttNanos);
+        samples++;
+        if (samples <= WARMUP_SAMPLES) longRtt += (rtt - longRtt) / samples;
+        else longRtt += (rtt - longRtt) * 2 / (LONG_WINDOW + 1);
+
+        // Após uma piora prolongada, a média de longo prazo se aproxima da latência atual mais rápido.
+        if (longRtt / rtt > 2) longRtt *= 0.95;
+
+        double current = limit;
+        if (dropped) {
+            limit = clamp(current * BACKOFF_RATIO);
+            return;
+        }
+        if (inFlightAtCompletion < current / 2) return;
+
+        double gradient = max(0.5, min(1.0, TOLERANCE * longRtt / rtt));
+        double target = current * gradient + sqrt(current);
+        limit = clamp(current * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private double clamp(double value) {
+        return max(minLimit, min(maxLimit, value));
+    }
+}
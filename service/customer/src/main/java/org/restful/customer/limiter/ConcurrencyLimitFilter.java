@@ -0,0 +1,112 @@
+package org.restful.customer.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.restful.customer.handler.ErrorDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static java.time.LocalDateTime.now;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Aplica o {@link AdaptiveConcurrencyLimit} às requisições da API de clientes. Acima do limite, a requisição é
+ * recusada na hora com 503 e {@code Retry-After}, sem ocupar uma thread do Tomcat esperando pelo MongoDB; assim um
+ * banco lento reduz a vazão da instância em vez de travá-la, e o cliente (ou o balanceador) pode tentar outra
+ * instância.
+ * <p>
+ * Respostas assíncronas, como a exportação em NDJSON, liberam a vaga quando o controller retorna e não entram na
+ * medição de latência.
+ */
+@Component("concurrencyLimitFilter")
+@ConditionalOnProperty(value = "customer.limiter.enabled", matchIfMissing = true)
+@Schema(description = "Filtro de limitação adaptativa de concorrência da API de clientes.")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String CUSTOMER_API = "/api/v1/customer";
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${customer.limiter.initial-limit:20}") int initialLimit,
+            @Value("${customer.limiter.min-limit:10}") int minLimit,
+            @Value("${customer.limiter.max-limit:200}") int maxLimit,
+            @Value("${customer.limiter.retry-after:1s}") Duration retryAfter
+    ) {
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+
+        Gauge.builder("customer.limiter.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Limite atual de requisições simultâneas da API de clientes")
+                .register(meterRegistry);
+        Gauge.builder("customer.limiter.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requisições da API de clientes em andamento")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("customer.limiter.rejected")
+                .description("Requisições recusadas com 503 por excederem o limite de concorrência")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + CUSTOMER_API);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            rejected.increment();
+            reject(request, response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            if (request.isAsyncStarted()) limit.release();
+            else limit.release(System.nanoTime() - started, dropped);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorDetails errorDetails = new ErrorDetails(
+                now(),
+                "Too many concurrent requests, retry later",
+                "uri=" + request.getRequestURI(),
+                "SERVICE_UNAVAILABLE"
+        );
+
+        response.setStatus(SERVICE_UNAVAILABLE.value());
+        response.setHeader(RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), List.of(errorDetails));
+    }
+}
@@ -0,0 +1,78 @@
+package org.restful.customer;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class TransferCustomerCollectionTests {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importRestoresExactlyWhatWasExported() throws Exception {
+        List<RawBsonDocument> exported = List.of(
+                customer(new ObjectId(), "maria@example.com", 3L),
+                customer(new ObjectId(), "joao@example.com", Long.MAX_VALUE),
+                customer(new ObjectId(), "ana@example.com", 0L)
+        );
+        MongoCollection<RawBsonDocument> source = mock(MongoCollection.class);
+        FindIterable<RawBsonDocument> find = mock(FindIterable.class);
+        when(source.find()).thenReturn(find);
+        when(find.batchSize(anyInt())).thenReturn(find);
+        MongoCursor<RawBsonDocument> cursor = cursor(exported.iterator());
+        when(find.cursor()).thenReturn(cursor);
+
+        List<BsonDocument> imported = new ArrayList<>();
+        MongoCollection<RawBsonDocument> target = mock(MongoCollection.class);
+        when(target.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(invocation -> {
+            invocation.<List<InsertOneModel<RawBsonDocument>>>getArgument(0).forEach(model -> imported.add(model.getDocument()));
+            return null;
+        });
+
+        Path file = directory.resolve("customers.ndjson.gz");
+        TransferCustomerCollection.exportCollection(source, file);
+        TransferCustomerCollection.importCollection(target, file);
+
+        assertThat(imported).containsExactlyElementsOf(exported);
+        verify(target, times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    private static RawBsonDocument customer(ObjectId id, String email, long version) {
+        Document document = new Document("_id", id)
+                .append("email", email)
+                .append("createdAt", new Date(id.getDate().getTime()))
+                .append("version", version);
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MongoCursor<RawBsonDocument> cursor(Iterator<RawBsonDocument> documents) {
+        MongoCursor<RawBsonDocument> cursor = mock(MongoCursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> documents.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> documents.next());
+        return cursor;
+    }
+}
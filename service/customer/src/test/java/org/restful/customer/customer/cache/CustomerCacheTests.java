@@ -0,0 +1,78 @@
+package org.restful.customer.customer.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CustomerCacheTests {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CustomerCache cache = new CustomerCache(customerRepository, new CustomerMapper(), new SimpleMeterRegistry(),
+            100, Duration.ofMinutes(10), Duration.ofMillis(500));
+
+    @Test
+    void loadsAllMissesWithOneQueryAndCachesMissingIds() {
+        Customer maria = Customer.builder().id("a").email("maria@example.com").build();
+        when(customerRepository.findAllById(Set.of("a", "b"))).thenReturn(List.of(maria));
+
+        assertThat(cache.getAll(List.of("a", "b")))
+                .hasSize(2)
+                .hasEntrySatisfying("a", customer -> assertThat(customer).hasValueSatisfying(c -> assertThat(c.email()).isEqualTo("maria@example.com")))
+                .hasEntrySatisfying("b", customer -> assertThat(customer).isEmpty());
+        assertThat(cache.getAll(List.of("a", "b"))).hasSize(2);
+        assertThat(cache.get("b")).isEmpty();
+
+        verify(customerRepository, times(1)).findAllById(any());
+        verify(customerRepository, never()).findById(any());
+    }
+
+    @Test
+    void missingIdsAreCachedOnlyForTheNegativeTimeToLive() throws InterruptedException {
+        Customer maria = Customer.builder().id("a").email("maria@example.com").build();
+        Customer joao = Customer.builder().id("b").email("joao@example.com").build();
+        when(customerRepository.findById("a")).thenReturn(Optional.empty(), Optional.of(maria));
+        when(customerRepository.findById("b")).thenReturn(Optional.of(joao));
+
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.get("b")).isPresent();
+        assertThat(cache.get("a")).isEmpty();
+        verify(customerRepository, times(1)).findById("a");
+
+        Thread.sleep(1_000);
+
+        assertThat(cache.get("a")).hasValueSatisfying(customer -> assertThat(customer.email()).isEqualTo("maria@example.com"));
+        assertThat(cache.get("b")).isPresent();
+        verify(customerRepository, times(2)).findById("a");
+        verify(customerRepository, times(1)).findById("b");
+    }
+
+    @Test
+    void writesReplaceTheCachedEntryWithoutReloading() {
+        CustomerMapper customerMapper = new CustomerMapper();
+        Customer maria = Customer.builder().id("a").email("maria@example.com").build();
+
+        cache.putMissing("a");
+        assertThat(cache.get("a")).isEmpty();
+
+        cache.put(customerMapper.fromCustomer(maria));
+        assertThat(cache.get("a")).isPresent();
+        verify(customerRepository, never()).findById(any());
+
+        cache.invalidate("a");
+        assertThat(cache.getIfCached("a")).isEmpty();
+        when(customerRepository.findById("a")).thenReturn(Optional.empty());
+        assertThat(cache.get("a")).isEmpty();
+        verify(customerRepository, times(1)).findById("a");
+    }
+}
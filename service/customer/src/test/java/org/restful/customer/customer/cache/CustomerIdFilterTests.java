@@ -0,0 +1,100 @@
+package org.restful.customer.customer.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.time.temporal.ChronoUnit.HOURS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomerIdFilterTests {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CustomerIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CustomerIdFilter(customerRepository, meterRegistry, 10_000, 0.01, Duration.ofMinutes(15), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void answersPositiveUntilWarmedUp() {
+        assertThat(filter.mightContain(new ObjectId().toHexString())).isTrue();
+        assertThat(meterRegistry.counter("customer.exists.filter.lookups", "result", "bypass").count()).isEqualTo(1);
+    }
+
+    @Test
+    void neverReturnsFalseNegatives() {
+        List<String> warmed = ids(5_000);
+        when(customerRepository.streamIdsBy()).thenReturn(customers(warmed));
+        filter.warmUp();
+        List<String> created = ids(1_000);
+        created.forEach(filter::put);
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(warmed).allMatch(filter::mightContain);
+        assertThat(created).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void keepsFalsePositivesNearConfiguredRate() {
+        when(customerRepository.streamIdsBy()).thenReturn(customers(ids(10_000)));
+        filter.warmUp();
+
+        long falsePositives = ids(100_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.expectedFalsePositiveProbability()).isLessThan(0.02);
+    }
+
+    @Test
+    void doesNotTrustNegativesForIdsNewerThanTheRebuild() {
+        when(customerRepository.streamIdsBy()).thenReturn(customers(ids(100)));
+        filter.rebuild();
+        String createdElsewhere = new ObjectId().toHexString();
+
+        assertThat(filter.mightContain(createdElsewhere)).isTrue();
+        filter.recordConfirmation(createdElsewhere, true);
+
+        String imported = ids(1).get(0);
+        assertThat(filter.mightContain(imported)).isFalse();
+        when(customerRepository.streamIdsBy()).thenReturn(customers(List.of(imported)));
+        filter.rebuild();
+        assertThat(filter.mightContain(imported)).isTrue();
+        assertThat(filter.mightContain(createdElsewhere)).isTrue();
+    }
+
+    @Test
+    void doesNotTrustNegativesOnceTheFilterIsOlderThanMaxAge() {
+        filter = new CustomerIdFilter(customerRepository, meterRegistry, 10_000, 0.01, Duration.ZERO, Duration.ofMinutes(1));
+        when(customerRepository.streamIdsBy()).thenReturn(customers(ids(100)));
+        filter.rebuild();
+
+        assertThat(ids(1_000)).allMatch(filter::mightContain);
+    }
+
+    private static Stream<Customer> customers(List<String> ids) {
+        return ids.stream().map(id -> Customer.builder().id(id).build());
+    }
+
+    /**
+     * IDs gerados uma hora atrás, anteriores a qualquer reconstrução feita no teste.
+     */
+    private static List<String> ids(int count) {
+        Date anHourAgo = Date.from(Instant.now().minus(1, HOURS));
+        return IntStream.range(0, count).mapToObj(i -> new ObjectId(anHourAgo).toHexString()).toList();
+    }
+}
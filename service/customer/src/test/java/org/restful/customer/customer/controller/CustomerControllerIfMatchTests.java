@@ -0,0 +1,58 @@
+package org.restful.customer.customer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.customer.service.CustomerCommandService;
+import org.restful.customer.customer.service.CustomerQueryService;
+import org.restful.customer.exception.CustomerNotFoundException;
+import org.restful.customer.handler.GlobalExceptionHandler;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+class CustomerControllerIfMatchTests {
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CustomerCommandService customerCommandService = mock(CustomerCommandService.class);
+    private final MockMvc mockMvc = standaloneSetup(new CustomerController(
+            customerCommandService,
+            mock(CustomerQueryService.class),
+            json,
+            new MappingJackson2SmileHttpMessageConverter(new ObjectMapper(new SmileFactory()))
+    )).setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry())).build();
+
+    @Test
+    void wildcardOnAMissingCustomerFailsThePrecondition() throws Exception {
+        when(customerCommandService.updateCustomer(any(), isNull())).thenThrow(new CustomerNotFoundException("Customer with id a not found"));
+        when(customerCommandService.deleteCustomer("a", null)).thenReturn(false);
+        String body = json.writeValueAsString(new CustomerRequest("a", "Maria", "Silva", "maria@example.com", null));
+
+        mockMvc.perform(put("/api/v1/customer").contentType(APPLICATION_JSON).header(IF_MATCH, "*").content(body))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/customer/a").header(IF_MATCH, "*"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void withoutIfMatchAMissingCustomerKeepsItsUsualAnswer() throws Exception {
+        when(customerCommandService.updateCustomer(any(), isNull())).thenThrow(new CustomerNotFoundException("Customer with id a not found"));
+        when(customerCommandService.deleteCustomer("a", null)).thenReturn(false);
+        String body = json.writeValueAsString(new CustomerRequest("a", "Maria", "Silva", "maria@example.com", null));
+
+        mockMvc.perform(put("/api/v1/customer").contentType(APPLICATION_JSON).content(body))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/v1/customer/a"))
+                .andExpect(status().isNoContent());
+    }
+}
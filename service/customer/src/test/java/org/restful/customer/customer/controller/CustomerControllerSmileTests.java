@@ -0,0 +1,99 @@
+package org.restful.customer.customer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.dto.BulkCustomerResponse;
+import org.restful.customer.customer.dto.BulkCustomerResult;
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.customer.dto.CustomerResponse;
+import org.restful.customer.customer.service.CustomerCommandService;
+import org.restful.customer.customer.service.CustomerQueryService;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+class CustomerControllerSmileTests {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+    private final CustomerCommandService customerCommandService = mock(CustomerCommandService.class);
+    private final CustomerQueryService customerQueryService = mock(CustomerQueryService.class);
+    private final MappingJackson2SmileHttpMessageConverter smileConverter = new MappingJackson2SmileHttpMessageConverter(smile);
+    private final CustomerController controller = new CustomerController(customerCommandService, customerQueryService, json, smileConverter);
+    private final MockMvc mockMvc = standaloneSetup(controller)
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(json), smileConverter)
+            .build();
+
+    private final CustomerResponse maria = new CustomerResponse("a", "Maria", "Silva", "maria@example.com", null, 2L);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkReadsASmileBodyAndAnswersInSmile() throws Exception {
+        List<String> received = new ArrayList<>();
+        when(customerCommandService.createCustomers(any())).thenAnswer(invocation -> {
+            invocation.<Iterator<CustomerRequest>>getArgument(0).forEachRemaining(customer -> received.add(customer.email()));
+            return new BulkCustomerResponse(received.size(), 0, List.of(new BulkCustomerResult(0, "a", null), new BulkCustomerResult(1, "b", null)));
+        });
+        byte[] body = smile.writeValueAsBytes(List.of(
+                new CustomerRequest(null, "Maria", "Silva", "maria@example.com", null),
+                new CustomerRequest(null, "João", "Souza", "joao@example.com", null)
+        ));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/customer/bulk").contentType(APPLICATION_SMILE).header(ACCEPT, APPLICATION_SMILE).content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn();
+
+        assertThat(received).containsExactly("maria@example.com", "joao@example.com");
+        assertThat(smile.readValue(result.getResponse().getContentAsByteArray(), BulkCustomerResponse.class).created()).isEqualTo(2);
+    }
+
+    @Test
+    void getAnswersInSmileOnlyWhenAsked() throws Exception {
+        when(customerQueryService.findCustomerById(eq("a"), any())).thenReturn(maria);
+
+        MvcResult asSmile = mockMvc.perform(get("/api/v1/customer/a").header(ACCEPT, APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE))
+                .andReturn();
+        assertThat(smile.readValue(asSmile.getResponse().getContentAsByteArray(), CustomerResponse.class)).isEqualTo(maria);
+
+        mockMvc.perform(get("/api/v1/customer/a"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(content().json(json.writeValueAsString(maria)));
+    }
+
+    @Test
+    void rawJsonModeStillNegotiatesSmile() throws Exception {
+        ReflectionTestUtils.setField(controller, "rawJson", true);
+        when(customerQueryService.findCustomerById(eq("a"), any())).thenReturn(maria);
+
+        mockMvc.perform(get("/api/v1/customer/a").header(ACCEPT, APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE));
+        verify(customerQueryService, never()).findCustomerJsonById(any());
+    }
+}
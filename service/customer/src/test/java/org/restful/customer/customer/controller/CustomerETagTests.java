@@ -0,0 +1,40 @@
+package org.restful.customer.customer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.restful.customer.exception.PreconditionFailedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerETagTests {
+
+    @Test
+    void roundTripsVersion() {
+        assertThat(CustomerETag.of(7L)).isEqualTo("\"7\"");
+        assertThat(CustomerETag.of(null)).isNull();
+        assertThat(CustomerETag.expectedVersion(CustomerETag.of(7L))).isEqualTo(7L);
+    }
+
+    @Test
+    void absentOrWildcardIfMatchIsUnconditional() {
+        assertThat(CustomerETag.expectedVersion(null)).isNull();
+        assertThat(CustomerETag.expectedVersion("*")).isNull();
+    }
+
+    @Test
+    void weakOrForeignETagNeverMatches() {
+        assertThatThrownBy(() -> CustomerETag.expectedVersion("W/\"7\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> CustomerETag.expectedVersion("\"7\", \"8\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> CustomerETag.expectedVersion("\"abc\""))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void wildcardRequiresAnExistingCustomer() {
+        assertThatThrownBy(() -> CustomerETag.requireExisting("*", "a"))
+                .isInstanceOf(PreconditionFailedException.class);
+        CustomerETag.requireExisting(null, "a");
+    }
+}
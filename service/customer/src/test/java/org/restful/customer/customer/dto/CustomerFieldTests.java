@@ -0,0 +1,37 @@
+package org.restful.customer.customer.dto;
+
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.entity.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.restful.customer.customer.dto.CustomerField.*;
+
+class CustomerFieldTests {
+
+    private final CustomerMapper customerMapper = new CustomerMapper();
+
+    @Test
+    void parsesCommaSeparatedJsonNames() {
+        assertThat(CustomerField.parse("id, email,address")).containsExactly(ID, EMAIL, ADDRESS);
+        assertThat(CustomerField.parse(null)).isNull();
+        assertThat(CustomerField.parse(" ")).isNull();
+    }
+
+    @Test
+    void rejectsUnknownField() {
+        assertThatThrownBy(() -> CustomerField.parse("id,firstname"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown customer field firstname");
+    }
+
+    @Test
+    void selectKeepsOnlyRequestedFields() {
+        Address address = Address.builder().city("São Paulo").build();
+        CustomerResponse customer = new CustomerResponse("1", "Maria", "Silva", "maria@example.com", address, 2L);
+
+        assertThat(customerMapper.select(customer, CustomerField.parse("id,email")))
+                .isEqualTo(new CustomerResponse("1", null, null, "maria@example.com", null, null));
+        assertThat(customerMapper.select(customer, null)).isSameAs(customer);
+    }
+}
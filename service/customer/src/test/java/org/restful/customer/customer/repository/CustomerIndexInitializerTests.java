@@ -0,0 +1,44 @@
+package org.restful.customer.customer.repository;
+
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.entity.Customer;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CustomerIndexInitializerTests {
+
+    private final MongoOperations mongoOperations = mock(MongoOperations.class);
+    private final IndexOperations indexOperations = mock(IndexOperations.class);
+    private final CustomerIndexHealthIndicator healthIndicator = new CustomerIndexHealthIndicator();
+    private final CustomerIndexInitializer initializer = new CustomerIndexInitializer(mongoOperations, new MongoMappingContext(), healthIndicator);
+
+    @Test
+    void isUpWithTheIndexesOnceTheyAreEnsured() {
+        when(mongoOperations.indexOps(Customer.class)).thenReturn(indexOperations);
+        when(indexOperations.ensureIndex(any())).thenAnswer(invocation -> invocation.<IndexDefinition>getArgument(0).getIndexOptions().get("name"));
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+        initializer.ensureIndexes();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(healthIndicator.health().getDetails().get("indexes").toString()).contains("email_unique");
+    }
+
+    @Test
+    void isDownWhenTheIndexesCannotBeCreated() {
+        when(mongoOperations.indexOps(Customer.class)).thenReturn(indexOperations);
+        when(indexOperations.ensureIndex(any())).thenThrow(new DataAccessResourceFailureException("E11000 duplicate key error"));
+
+        initializer.ensureIndexes();
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.DOWN);
+    }
+}
@@ -0,0 +1,85 @@
+package org.restful.customer.customer.repository.impl;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.restful.customer.customer.entity.Address;
+import org.restful.customer.customer.entity.Customer;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.BulkOperations.BulkMode.UNORDERED;
+
+class CustomerRepositoryCustomImplTests {
+
+    private final MongoOperations mongoOperations = mock(MongoOperations.class);
+    private final CustomerRepositoryCustomImpl repository = new CustomerRepositoryCustomImpl(mongoOperations);
+
+    @Test
+    void setsOnlyTheInformedFieldsAndMatchesTheExpectedVersion() {
+        Customer changes = Customer.builder()
+                .email("maria@example.com")
+                .address(Address.builder().city("Recife").build())
+                .build();
+
+        repository.updateNonNullFields("a", 3L, changes);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoOperations).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(Customer.class));
+
+        assertThat(query.getValue().getQueryObject()).containsEntry("version", 3L);
+        assertThat(update.getValue().getUpdateObject())
+                .containsEntry("$set", new Document("email", "maria@example.com").append("address.city", "Recife"))
+                .containsEntry("$inc", new Document("version", 1));
+    }
+
+    @Test
+    void matchesAnyVersionWhenNoneIsExpected() {
+        repository.updateNonNullFields("a", null, Customer.builder().firstname("Maria").build());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).findAndModify(query.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(Customer.class));
+        assertThat(query.getValue().getQueryObject()).doesNotContainKey("version");
+    }
+
+    @Test
+    void reportsTheFailedInsertsByTheirPositionInTheBatch() {
+        List<Customer> customers = List.of(
+                Customer.builder().email("a@example.com").build(),
+                Customer.builder().email("b@example.com").build(),
+                Customer.builder().email("c@example.com").build()
+        );
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(mongoOperations.bulkOps(UNORDERED, Customer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(customers)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("Bulk write operation error", new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+                List.of(
+                        new BulkWriteError(11000, "E11000 duplicate key error: a@example.com", new BsonDocument(), 0),
+                        new BulkWriteError(11000, "E11000 duplicate key error: c@example.com", new BsonDocument(), 2)
+                ),
+                null,
+                new ServerAddress()
+        )));
+
+        assertThat(repository.insertUnordered(customers))
+                .containsOnlyKeys(0, 2)
+                .hasEntrySatisfying(2, message -> assertThat(message).contains("c@example.com"));
+    }
+}
@@ -0,0 +1,49 @@
+package org.restful.customer.customer.repository.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawBsonJsonTests {
+
+    @Test
+    void writesPlainJsonForEveryMappedType() throws IOException {
+        ObjectId id = new ObjectId("652f1c2ab1e4a3c9d8e7f601");
+        RawBsonDocument document = RawBsonDocument.parse(new Document("id", id)
+                .append("name", "Zé \"Silva\"")
+                .append("count", 3)
+                .append("version", 7L)
+                .append("score", 1.5)
+                .append("price", new Decimal128(new BigDecimal("10.25")))
+                .append("active", true)
+                .append("createdAt", new Date(0))
+                .append("deleted", null)
+                .append("address", new Document("city", "São Paulo").append("tags", List.of("a", 1)))
+                .toJson());
+
+        assertThat(toJson(document)).isEqualTo("{\"id\":\"652f1c2ab1e4a3c9d8e7f601\",\"name\":\"Zé \\\"Silva\\\"\","
+                + "\"count\":3,\"version\":7,\"score\":1.5,\"price\":10.25,\"active\":true,"
+                + "\"createdAt\":\"1970-01-01T00:00:00Z\",\"deleted\":null,"
+                + "\"address\":{\"city\":\"São Paulo\",\"tags\":[\"a\",1]}}");
+    }
+
+    private static String toJson(RawBsonDocument document) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (JsonGenerator generator = RawBsonJson.createGenerator(json)) {
+            RawBsonJson.write(document, generator);
+        }
+        return json.toString(UTF_8);
+    }
+}
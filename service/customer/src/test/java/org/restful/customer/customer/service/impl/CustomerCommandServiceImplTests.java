@@ -0,0 +1,115 @@
+package org.restful.customer.customer.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.cache.CustomerCache;
+import org.restful.customer.customer.cache.CustomerIdFilter;
+import org.restful.customer.customer.dto.BulkCustomerResponse;
+import org.restful.customer.customer.dto.BulkCustomerResult;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.dto.CustomerPatchRequest;
+import org.restful.customer.customer.dto.CustomerRequest;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerRepository;
+import org.restful.customer.exception.ConcurrentUpdateException;
+import org.restful.customer.exception.CustomerNotFoundException;
+import org.restful.customer.exception.DuplicateEntryException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CustomerCommandServiceImplTests {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CustomerMapper customerMapper = new CustomerMapper();
+    private final CustomerCache customerCache = new CustomerCache(customerRepository, customerMapper, new SimpleMeterRegistry(),
+            100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+    private final CustomerCommandServiceImpl service = new CustomerCommandServiceImpl(
+            customerRepository,
+            customerMapper,
+            new CustomerIdFilter(customerRepository, new SimpleMeterRegistry(), 1_000, 0.01, Duration.ofMinutes(15), Duration.ofMinutes(1)),
+            customerCache,
+            Validation.buildDefaultValidatorFactory().getValidator()
+    );
+
+    @Test
+    void rejectsADuplicateEmailOnCreate() {
+        when(customerRepository.save(any(Customer.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key error collection: customer index: email_unique"));
+
+        assertThatThrownBy(() -> service.createCustomer(new CustomerRequest(null, "Maria", "Silva", "maria@example.com", null)))
+                .isInstanceOf(DuplicateEntryException.class)
+                .hasMessageContaining("maria@example.com");
+    }
+
+    @Test
+    void rejectsADuplicateEmailOnPatch() {
+        when(customerRepository.updateNonNullFields(eq("a"), any(), any())).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        assertThatThrownBy(() -> service.patchCustomer("a", new CustomerPatchRequest(null, null, "maria@example.com", null, null)))
+                .isInstanceOf(DuplicateEntryException.class);
+        assertThat(customerCache.getIfCached("a")).isEmpty();
+    }
+
+    @Test
+    void patchWithAStaleVersionIsAConcurrentUpdate() {
+        when(customerRepository.updateNonNullFields(eq("a"), eq(3L), any())).thenReturn(Optional.empty());
+        when(customerRepository.existsById("a")).thenReturn(true);
+
+        assertThatThrownBy(() -> service.patchCustomer("a", new CustomerPatchRequest("Maria", null, null, null, 3L)))
+                .isInstanceOf(ConcurrentUpdateException.class);
+    }
+
+    @Test
+    void patchOfAMissingCustomerIsNotFound() {
+        when(customerRepository.updateNonNullFields(eq("a"), eq(3L), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.patchCustomer("a", new CustomerPatchRequest("Maria", null, null, null, 3L)))
+                .isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void bulkResultsKeepTheRequestPositionAcrossChunksAndInvalidRows() {
+        ReflectionTestUtils.setField(service, "bulkChunkSize", 2);
+        when(customerRepository.insertUnordered(anyList()))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(0, "E11000 duplicate key error"));
+
+        BulkCustomerResponse response = service.createCustomers(List.of(
+                new CustomerRequest(null, "Ana", "Lima", "ana@example.com", null),
+                new CustomerRequest(null, "Sem", "Email", null, null),
+                new CustomerRequest(null, "Bia", "Reis", "bia@example.com", null),
+                new CustomerRequest(null, "Caio", "Melo", "caio@example.com", null)
+        ).iterator());
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.results()).extracting(BulkCustomerResult::index).containsExactly(0, 1, 2, 3);
+        assertThat(response.results()).extracting(result -> result.id() != null).containsExactly(true, false, false, true);
+        assertThat(response.results().get(1).error()).contains("email");
+        assertThat(response.results().get(2).error()).contains("E11000");
+        assertThat(customerCache.getIfCached(response.results().get(3).id())).isPresent();
+        verify(customerRepository, times(2)).insertUnordered(anyList());
+    }
+
+    @Test
+    void unconditionalDeleteReportsWhetherACustomerWasRemoved() {
+        when(customerRepository.removeById("a")).thenReturn(1L);
+
+        assertThat(service.deleteCustomer("a", null)).isTrue();
+        assertThat(service.deleteCustomer("b", null)).isFalse();
+        assertThat(customerCache.get("b")).isEmpty();
+        verify(customerRepository, never()).findById(any());
+    }
+}
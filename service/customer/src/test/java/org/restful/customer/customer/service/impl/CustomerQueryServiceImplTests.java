@@ -0,0 +1,77 @@
+package org.restful.customer.customer.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.restful.customer.customer.cache.CustomerCache;
+import org.restful.customer.customer.cache.CustomerIdFilter;
+import org.restful.customer.customer.dto.CustomerField;
+import org.restful.customer.customer.dto.CustomerMapper;
+import org.restful.customer.customer.dto.CustomerSearchRequest;
+import org.restful.customer.customer.entity.Customer;
+import org.restful.customer.customer.repository.CustomerReadRepository;
+import org.restful.customer.customer.repository.CustomerRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CustomerQueryServiceImplTests {
+
+    private final CustomerReadRepository customerReadRepository = mock(CustomerReadRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CustomerMapper customerMapper = new CustomerMapper();
+    private final CustomerIdFilter customerIdFilter = new CustomerIdFilter(customerRepository, new SimpleMeterRegistry(), 1_000, 0.01,
+            Duration.ofMinutes(15), Duration.ofMinutes(1));
+    private final CustomerCache customerCache = new CustomerCache(customerRepository, customerMapper, new SimpleMeterRegistry(),
+            100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+    private final CustomerQueryServiceImpl service = new CustomerQueryServiceImpl(
+            customerReadRepository, customerRepository, customerMapper, customerIdFilter, customerCache);
+
+    private final Customer maria = Customer.builder().id("a").email("maria@example.com").version(0L).build();
+
+    @Test
+    void confirmsExistenceOnThePrimary() {
+        when(customerRepository.existsById("a")).thenReturn(true);
+
+        assertThat(service.existsById("a")).isTrue();
+        verifyNoInteractions(customerReadRepository);
+    }
+
+    @Test
+    void looksUpEmailOnThePrimaryWhenTheSecondaryHasNotReplicatedIt() {
+        when(customerReadRepository.findByEmail("maria@example.com")).thenReturn(Optional.empty());
+        when(customerRepository.findByEmail("maria@example.com")).thenReturn(Optional.of(maria));
+
+        assertThat(service.findCustomerByEmail("maria@example.com").id()).isEqualTo("a");
+    }
+
+    @Test
+    void projectedLookupFallsBackToThePrimaryThroughTheCache() {
+        when(customerReadRepository.findProjectedById(any(), any())).thenReturn(Optional.empty());
+        when(customerRepository.findById("a")).thenReturn(Optional.of(maria));
+
+        assertThat(service.findCustomerById("a", EnumSet.of(CustomerField.EMAIL)).email())
+                .isEqualTo("maria@example.com");
+        assertThat(customerCache.getIfCached("a")).isPresent();
+    }
+
+    @Test
+    void searchStopsAtTheFirstThousandResults() {
+        CustomerSearchRequest search = new CustomerSearchRequest(null, "Ma", null, null, null, null, null);
+        when(customerReadRepository.search(any(), any()))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(maria), invocation.getArgument(1), true));
+
+        assertThat(service.searchCustomers(search, 8, 100).hasNext()).isTrue();
+        assertThat(service.searchCustomers(search, 9, 100).hasNext()).isFalse();
+        assertThatThrownBy(() -> service.searchCustomers(search, 10, 100)).isInstanceOf(IllegalArgumentException.class);
+        verify(customerReadRepository, never()).search(search, PageRequest.of(10, 100));
+    }
+}
@@ -0,0 +1,43 @@
+package org.restful.customer.handler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.restful.customer.exception.ConcurrentUpdateException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+class GlobalExceptionHandlerTests {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+
+    @Test
+    void answersAUniqueIndexViolationWithConflict() {
+        ResponseEntity<List<ErrorDetails>> response = handler.handleDuplicateKeyException(
+                new DuplicateKeyException("E11000 duplicate key error collection: customer index: email_unique"),
+                new ServletWebRequest(new MockHttpServletRequest("POST", "/api/v1/customer"))
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(CONFLICT);
+        assertThat(response.getBody()).singleElement()
+                .satisfies(error -> assertThat(error.getErrorCode()).isEqualTo("DUPLICATE_ENTRY"));
+    }
+
+    @Test
+    void answersAConcurrentUpdateWithConflict() {
+        ResponseEntity<List<ErrorDetails>> response = handler.handleConcurrentUpdateException(
+                new ConcurrentUpdateException("Customer with id a was modified after version 3"),
+                new ServletWebRequest(new MockHttpServletRequest("PATCH", "/api/v1/customer/a"))
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(CONFLICT);
+        assertThat(response.getBody()).singleElement()
+                .satisfies(error -> assertThat(error.getErrorCode()).isEqualTo("CONCURRENT_UPDATE"));
+    }
+}
@@ -0,0 +1,54 @@
+package org.restful.customer.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTests {
+
+    @Test
+    void rejectsAboveLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void growsWhileLatencyHoldsAndShrinksWhenItRises() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 10, 200);
+
+        saturate(limit, 500, 10);
+        int grown = limit.getLimit();
+        assertThat(grown).isGreaterThan(20);
+
+        saturate(limit, 100, 100);
+        assertThat(limit.getLimit()).isLessThan(grown / 2);
+    }
+
+    @Test
+    void backsOffOnServerErrors() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 10, 200);
+
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+            limit.release(MILLISECONDS.toNanos(10), true);
+        }
+        assertThat(limit.getLimit()).isEqualTo(59);
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimit limit, int samples, long rttMillis) {
+        for (int i = 0; i < samples; i++) {
+            while (limit.tryAcquire()) {
+            }
+            limit.release(MILLISECONDS.toNanos(rttMillis), false);
+        }
+        while (limit.getInFlight() > 0) limit.release();
+    }
+}
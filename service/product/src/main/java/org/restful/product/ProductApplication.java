@@ -1,9 +1,11 @@
 package org.restful.product;
 
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import static org.springframework.boot.SpringApplication.run;
 
+@EnableScheduling
 @SpringBootApplication
 public class ProductApplication {
     public static void main(String[] args) {
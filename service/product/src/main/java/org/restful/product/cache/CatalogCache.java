@@ -0,0 +1,156 @@
+package org.restful.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.CategoryPageResponse;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Cache em memória das consultas do catálogo, invalidado pelas notificações dos triggers do banco
+ * ({@link CatalogChange}), que chegam a todas as instâncias poucos milissegundos após o COMMIT.
+ * <p>
+ * O cache só é usado enquanto o {@link CatalogInvalidationListener} está conectado: sem a conexão, uma alteração
+ * poderia passar despercebida, então as consultas vão direto ao banco até a reconexão, que esvazia o cache. O
+ * {@code product.cache.time-to-live} é só uma rede de segurança.
+ * <p>
+ * Uma consulta que lê o banco enquanto uma invalidação é processada poderia gravar no cache o valor anterior à
+ * alteração; o contador {@code generation}, incrementado antes de cada invalidação, faz com que esse valor seja
+ * descartado.
+ */
+@Component("catalogCache")
+@ConditionalOnProperty(value = "product.cache.enabled", matchIfMissing = true)
+@Schema(description = "Cache em memória, limitado por tamanho, das consultas do catálogo de produtos.")
+public class CatalogCache {
+
+    private final Cache<Integer, ProductResponse> products;
+    private final Cache<CategoryProductsKey, ProductPageResponse> categoryProducts;
+    private final Cache<PageKey, CategoryPageResponse> categories;
+    private final AtomicLong generation = new AtomicLong();
+    private final Timer invalidationLag;
+    private volatile boolean active;
+
+    public CatalogCache(
+            MeterRegistry meterRegistry,
+            @Value("${product.cache.maximum-size:10000}") long maximumSize,
+            @Value("${product.cache.time-to-live:10m}") Duration timeToLive
+    ) {
+        this.products = build(meterRegistry, "catalog.products", maximumSize, timeToLive);
+        this.categoryProducts = build(meterRegistry, "catalog.category.products", maximumSize, timeToLive);
+        this.categories = build(meterRegistry, "catalog.categories", maximumSize, timeToLive);
+        this.invalidationLag = Timer.builder("product.cache.invalidation.lag")
+                .description("Tempo entre a alteração no banco e a invalidação do cache nesta instância")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public ProductResponse getProduct(Integer productId, Supplier<ProductResponse> loader) {
+        return get(products, productId, loader);
+    }
+
+    public ProductPageResponse getCategoryProducts(Integer categoryId, int page, int size, Supplier<ProductPageResponse> loader) {
+        return get(categoryProducts, new CategoryProductsKey(categoryId, page, size), loader);
+    }
+
+    public CategoryPageResponse getCategories(int page, int size, Supplier<CategoryPageResponse> loader) {
+        return get(categories, new PageKey(page, size), loader);
+    }
+
+    public void apply(CatalogChange change) {
+        generation.incrementAndGet();
+        switch (change.kind()) {
+            case PRODUCT -> products.invalidate(change.id());
+            case LISTING -> invalidateListing(change.id());
+            case CATEGORY -> {
+                products.asMap().values().removeIf(product -> change.id().equals(product.categoryId()));
+                categoryProducts.asMap().keySet().removeIf(key -> key.categoryId().equals(change.id()));
+                categories.invalidateAll();
+            }
+        }
+        // Com os relógios do banco e da instância um pouco defasados, o atraso pode sair negativo.
+        invalidationLag.record(Math.max(0, Instant.now().toEpochMilli() - change.changedAt().toEpochMilli()), MILLISECONDS);
+    }
+
+    /**
+     * Chamado pelo listener ao se conectar: descarta o que pode ter mudado enquanto estava desconectado e passa a
+     * usar o cache.
+     */
+    public void resume() {
+        invalidateAll();
+        active = true;
+    }
+
+    public void suspend() {
+        active = false;
+        invalidateAll();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        products.invalidateAll();
+        categoryProducts.invalidateAll();
+        categories.invalidateAll();
+    }
+
+    /**
+     * As páginas de categorias listam todas as categorias, tenham produtos ou não, então uma alteração nos produtos
+     * de uma categoria só afeta a página em que ela aparece. Já a inclusão ou remoção de uma categoria desloca todas
+     * as páginas seguintes, por isso {@code CATEGORY} descarta todas.
+     */
+    private void invalidateListing(Integer categoryId) {
+        categoryProducts.asMap().keySet().removeIf(key -> key.categoryId().equals(categoryId));
+        categories.asMap().values().removeIf(page -> page.content().stream().anyMatch(category -> category.id().equals(categoryId)));
+    }
+
+    private <K, V> V get(Cache<K, V> cache, K key, Supplier<V> loader) {
+        if (!active) return loader.get();
+
+        V cached = cache.getIfPresent(key);
+        if (cached != null) return cached;
+
+        long loadedAt = generation.get();
+        V value = loader.get();
+        cache.put(key, value);
+        if (generation.get() != loadedAt) cache.invalidate(key);
+        return value;
+    }
+
+    private static <K, V> Cache<K, V> build(MeterRegistry meterRegistry, String name, long maximumSize, Duration timeToLive) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder("product.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Fração das consultas do catálogo atendidas pelo cache desde o início da aplicação")
+                .tag("cache", name)
+                .register(meterRegistry);
+        return cache;
+    }
+
+    private record CategoryProductsKey(Integer categoryId, int page, int size) {
+    }
+
+    private record PageKey(int page, int size) {
+    }
+}
@@ -0,0 +1,33 @@
+package org.restful.product.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+import static java.lang.String.format;
+
+@Schema(description = "Alteração do catálogo publicada pelos triggers do banco no canal catalog_changes.")
+public record CatalogChange(Kind kind, Integer id, Instant changedAt) {
+
+    public enum Kind {
+        PRODUCT, LISTING, CATEGORY
+    }
+
+    /**
+     * Interpreta o payload {@code <tipo>:<id>:<epoch em ms>} gerado pelos triggers da migração
+     * {@code V3__catalog_change_notifications}.
+     */
+    public static CatalogChange parse(String payload) {
+        String[] parts = payload.split(":");
+        if (parts.length != 3) throw new IllegalArgumentException(format("Malformed catalog change: %s", payload));
+        try {
+            return new CatalogChange(
+                    Kind.valueOf(parts[0].toUpperCase()),
+                    Integer.valueOf(parts[1]),
+                    Instant.ofEpochMilli(Long.parseLong(parts[2]))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(format("Malformed catalog change: %s", payload), e);
+        }
+    }
+}
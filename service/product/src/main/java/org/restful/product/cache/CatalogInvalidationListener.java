@@ -0,0 +1,114 @@
+package org.restful.product.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Consome as notificações de alteração do catálogo em uma thread própria e invalida o {@link CatalogCache}. Se a
+ * conexão cair, o cache é suspenso (as consultas vão ao banco) até a reconexão, feita a cada
+ * {@code product.cache.reconnect-delay}.
+ */
+@Component("catalogInvalidationListener")
+@ConditionalOnProperty(value = "product.cache.enabled", matchIfMissing = true)
+@Schema(description = "Invalida o cache do catálogo a partir das notificações do banco.")
+public class CatalogInvalidationListener {
+
+    private static final Logger logger = getLogger(CatalogInvalidationListener.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final CatalogNotifications catalogNotifications;
+    private final CatalogCache catalogCache;
+    private final Duration reconnectDelay;
+    private final Counter notifications;
+    private final Counter disconnections;
+    private volatile boolean running;
+    private Thread thread;
+
+    public CatalogInvalidationListener(
+            CatalogNotifications catalogNotifications,
+            CatalogCache catalogCache,
+            MeterRegistry meterRegistry,
+            @Value("${product.cache.reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        this.catalogNotifications = catalogNotifications;
+        this.catalogCache = catalogCache;
+        this.reconnectDelay = reconnectDelay;
+        this.notifications = Counter.builder("product.cache.notifications")
+                .description("Notificações de alteração do catálogo recebidas")
+                .register(meterRegistry);
+        this.disconnections = Counter.builder("product.cache.disconnections")
+                .description("Quedas da conexão de notificações; a cada uma o cache é esvaziado")
+                .register(meterRegistry);
+        Gauge.builder("product.cache.active", catalogCache, cache -> cache.isActive() ? 1 : 0)
+                .description("1 enquanto o cache do catálogo está em uso, 0 enquanto as notificações estão desconectadas")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "catalog-invalidation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(POLL_TIMEOUT.multipliedBy(2).toMillis());
+        catalogNotifications.close();
+    }
+
+    private void listen() {
+        while (running) {
+            try {
+                catalogNotifications.connect();
+                catalogCache.resume();
+                logger.info("Cache do catálogo ativo, escutando as alterações do banco.");
+                while (running) {
+                    for (String payload : catalogNotifications.poll(POLL_TIMEOUT)) apply(payload);
+                }
+            } catch (Exception e) {
+                catalogCache.suspend();
+                catalogNotifications.close();
+                if (!running) return;
+                disconnections.increment();
+                logger.warn("Notificações do catálogo indisponíveis; cache suspenso por {} s: {}", reconnectDelay.toSeconds(), e.getMessage());
+                sleep(reconnectDelay);
+            }
+        }
+        catalogCache.suspend();
+    }
+
+    private void apply(String payload) {
+        notifications.increment();
+        try {
+            catalogCache.apply(CatalogChange.parse(payload));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Notificação do catálogo desconhecida, esvaziando o cache: {}", payload);
+            catalogCache.invalidateAll();
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
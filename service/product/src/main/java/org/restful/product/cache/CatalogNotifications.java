@@ -0,0 +1,29 @@
+package org.restful.product.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Fonte das notificações de alteração do catálogo. Em produção é o {@code LISTEN} do Postgres
+ * ({@link PostgresCatalogNotifications}); nos testes, qualquer fila em memória.
+ */
+@Schema(description = "Fonte das notificações de alteração do catálogo.")
+public interface CatalogNotifications extends AutoCloseable {
+
+    /**
+     * Abre a conexão e passa a receber as notificações; as publicadas antes disso não são entregues.
+     */
+    void connect() throws SQLException;
+
+    /**
+     * Aguarda até {@code timeout} e retorna os payloads recebidos, possivelmente nenhum. Uma exceção indica que a
+     * conexão caiu e que notificações podem ter sido perdidas.
+     */
+    List<String> poll(Duration timeout) throws SQLException;
+
+    @Override
+    void close();
+}
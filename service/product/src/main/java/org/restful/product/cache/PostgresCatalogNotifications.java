@@ -0,0 +1,71 @@
+package org.restful.product.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Escuta o canal {@code catalog_changes} em uma conexão própria, aberta fora do pool do Hikari: a conexão fica
+ * ociosa esperando notificações durante toda a vida da aplicação e não deve ocupar uma vaga das requisições.
+ */
+@Component("postgresCatalogNotifications")
+@ConditionalOnProperty(value = "product.cache.enabled", matchIfMissing = true)
+@Schema(description = "Notificações de alteração do catálogo recebidas por LISTEN/NOTIFY do Postgres.")
+public class PostgresCatalogNotifications implements CatalogNotifications {
+
+    static final String CHANNEL = "catalog_changes";
+
+    private final DataSourceProperties dataSourceProperties;
+    private Connection connection;
+    private PGConnection pgConnection;
+
+    public PostgresCatalogNotifications(DataSourceProperties dataSourceProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Override
+    public void connect() throws SQLException {
+        close();
+        connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword()
+        );
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        pgConnection = connection.unwrap(PGConnection.class);
+    }
+
+    @Override
+    public List<String> poll(Duration timeout) throws SQLException {
+        if (pgConnection == null) throw new SQLException("Not listening to " + CHANNEL);
+        PGNotification[] notifications = pgConnection.getNotifications((int) timeout.toMillis());
+        if (notifications == null) return List.of();
+        return Arrays.stream(notifications).map(PGNotification::getParameter).toList();
+    }
+
+    @Override
+    public void close() {
+        pgConnection = null;
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // A conexão já caiu; não há o que liberar.
+        } finally {
+            connection = null;
+        }
+    }
+}
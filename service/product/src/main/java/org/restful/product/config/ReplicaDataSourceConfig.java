@@ -0,0 +1,85 @@
+package org.restful.product.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Réplica de leitura opcional, ativada quando {@code product.datasource.replica.url} é informado. O
+ * {@code DataSource} da aplicação passa a ser um {@link LazyConnectionDataSourceProxy}: a conexão física só é
+ * obtida no primeiro comando, quando o Spring já marcou a conexão como somente leitura, então as transações
+ * {@code @Transactional(readOnly = true)} (consultas e busca do catálogo) vão para o
+ * {@link ReplicaFallbackDataSource} e as demais (reservas, importação, Flyway) para o primário.
+ * <p>
+ * Cada lado tem o seu pool Hikari ({@code primary} e {@code replica}), e as métricas {@code hikaricp.*} do Spring
+ * Boot saem separadas pela tag {@code pool}.
+ */
+@Configuration
+@ConditionalOnExpression("'${product.datasource.replica.url:}' != ''")
+@Schema(description = "Configuração do roteamento das transações somente leitura para a réplica.")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("product.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties dataSourceProperties,
+            @Value("${product.datasource.replica.url}") String url,
+            @Value("${product.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${product.datasource.replica.password:${spring.datasource.password}}") String password
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${product.datasource.replica.max-lag:5s}") Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, maxLag, meterRegistry);
+        replicaLagMonitor.check();
+        return replicaLagMonitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReplicaFallbackDataSource(replicaDataSource, primaryDataSource, replicaLagMonitor, meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,68 @@
+package org.restful.product.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Origem das conexões das transações somente leitura: a réplica enquanto o {@link ReplicaLagMonitor} a considera
+ * utilizável, senão o primário. Uma falha ao obter a conexão da réplica também cai no primário, sem esperar a
+ * próxima medição, e a réplica fica fora até lá.
+ */
+@Schema(description = "DataSource somente leitura com fallback para o primário.")
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter replicaConnections;
+    private final Counter primaryConnections;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.primary = primary;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.replicaConnections = counter(meterRegistry, "replica");
+        this.primaryConnections = counter(meterRegistry, "primary");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionSource source) throws SQLException {
+        if (replicaLagMonitor.isUsable()) {
+            try {
+                Connection connection = source.from(replica);
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replicaLagMonitor.unavailable(e.getMessage());
+            }
+        }
+        primaryConnections.increment();
+        return source.from(primary);
+    }
+
+    private interface ConnectionSource {
+        Connection from(DataSource dataSource) throws SQLException;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("product.datasource.read-only.connections")
+                .description("Conexões entregues às transações somente leitura, por destino")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,86 @@
+package org.restful.product.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.slf4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Mede periodicamente o atraso de replicação da réplica. Ela só recebe leituras enquanto responde e o atraso não
+ * passa de {@code product.datasource.replica.max-lag}; caso contrário as transações somente leitura voltam para o
+ * primário até a próxima medição favorável.
+ * <p>
+ * O atraso é o tempo desde a última transação reaplicada, exceto quando a réplica já reaplicou tudo o que recebeu:
+ * sem escritas no primário, {@code pg_last_xact_replay_timestamp()} envelhece sem que haja atraso de fato. Essa
+ * exceção só vale com o WAL receiver em streaming: desconectada, a réplica também já reaplicou tudo o que recebeu,
+ * por mais atrasada que esteja, então sem um receiver em streaming ela é considerada indisponível. Para ler
+ * {@code pg_stat_wal_receiver} o usuário da réplica precisa do papel {@code pg_monitor} (ou
+ * {@code pg_read_all_stats}); sem ele a réplica nunca é usada.
+ */
+@Schema(description = "Monitora o atraso de replicação da réplica de leitura.")
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = getLogger(ReplicaLagMonitor.class);
+    private static final String LAG_QUERY = """
+            select case
+                       when not pg_is_in_recovery() then 0
+                       when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then null
+                       when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                       else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   end
+            """;
+
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private volatile double lagMillis = Double.NaN;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.setQueryTimeout(5);
+        this.maxLagMillis = maxLag.toMillis();
+        Gauge.builder("product.datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Atraso de replicação da réplica de leitura, em ms; NaN enquanto ela não responde")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("product.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("1 enquanto as transações somente leitura vão para a réplica, 0 enquanto vão para o primário")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${product.datasource.replica.lag-check-interval:PT1S}")
+    public void check() {
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            if (lag == null) unavailable("WAL receiver não está em streaming");
+            else update(lag);
+        } catch (RuntimeException e) {
+            unavailable(e.getMessage());
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    void update(double lagMillis) {
+        boolean nowUsable = lagMillis <= maxLagMillis;
+        if (usable && !nowUsable) logger.warn("Réplica {} ms atrasada; leituras desviadas para o primário.", Math.round(lagMillis));
+        if (!usable && nowUsable) logger.info("Réplica em dia; leituras somente leitura voltam para ela.");
+        this.lagMillis = lagMillis;
+        this.usable = nowUsable;
+    }
+
+    void unavailable(String reason) {
+        if (usable) logger.warn("Réplica indisponível; leituras desviadas para o primário: {}", reason);
+        this.lagMillis = Double.NaN;
+        this.usable = false;
+    }
+}
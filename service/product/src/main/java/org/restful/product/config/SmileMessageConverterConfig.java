@@ -0,0 +1,27 @@
+package org.restful.product.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Habilita {@code application/x-jackson-smile} em todos os controllers por negociação de conteúdo: quem envia
+ * {@code Accept: application/x-jackson-smile} (ou o mesmo {@code Content-Type}) troca JSON textual por Smile, o
+ * formato binário do Jackson, nas chamadas entre serviços. Os nomes de campo repetidos viram referências, o que
+ * deixa listas de objetos bem menores que em JSON e mais baratas de codificar. JSON continua sendo o padrão.
+ * <p>
+ * O conversor usa o {@code Jackson2ObjectMapperBuilder} do Spring Boot, para que as propriedades
+ * {@code spring.jackson.*} e os módulos registrados valham também para Smile.
+ */
+@Configuration
+@Schema(description = "Configuração do conversor de mensagens Smile.")
+public class SmileMessageConverterConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,82 @@
+package org.restful.product.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.dto.CategoryImportRequest;
+import org.restful.product.dto.CategoryPageResponse;
+import org.restful.product.dto.ImportResponse;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.service.CatalogImportService;
+import org.restful.product.service.ProductCatalogService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.restful.product.controller.ImportFormat.TEXT_CSV_VALUE;
+import static org.restful.product.controller.ImportFormat.readRows;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.ResponseEntity.ok;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/category")
+@Schema(description = "Controlador REST para consultar e importar categorias do catálogo")
+@Tag(name = "Category Controller", description = "Controller para consulta de categorias e dos seus produtos e importação de categorias")
+public class CategoryController {
+
+    private final ProductCatalogService productCatalogService;
+    private final CatalogImportService catalogImportService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "Listar categorias com produtos", description = "Retorna uma página de categorias, ordenada pelo ID, com até 20 produtos de cada uma (os de menor ID); os produtos de toda a página são lidos em uma única consulta. Os demais produtos de uma categoria são paginados em /{category-id}/products.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de categorias retornada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Paginação inválida.")
+    })
+    @GetMapping
+    public ResponseEntity<CategoryPageResponse> getCategories(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ok(productCatalogService.findCategoriesWithProducts(page, size));
+    }
+
+    @Operation(summary = "Listar produtos de uma categoria", description = "Retorna uma página de produtos da categoria informada, ordenada pelo ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de produtos retornada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Paginação inválida."),
+            @ApiResponse(responseCode = "404", description = "Categoria não encontrada.")
+    })
+    @GetMapping("/{category-id}/products")
+    public ResponseEntity<ProductPageResponse> getProducts(
+            @PathVariable("category-id") Integer categoryId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ok(productCatalogService.findProductsByCategory(categoryId, page, size));
+    }
+
+    @Operation(summary = "Importar categorias em lote", description = "Recebe um CSV com cabeçalho ou um fluxo NDJSON de categorias, valida cada linha e grava em blocos com INSERTs em lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação processada; informa quantas linhas foram gravadas e as falhas.")
+    })
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importCategories(
+            InputStream requestBody,
+            @RequestHeader(CONTENT_TYPE) MediaType contentType
+    ) throws IOException {
+        try (MappingIterator<CategoryImportRequest> rows = readRows(requestBody, contentType, CategoryImportRequest.class, objectMapper)) {
+            return ok(catalogImportService.importCategories(rows));
+        }
+    }
+}
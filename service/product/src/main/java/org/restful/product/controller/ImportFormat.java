@@ -0,0 +1,43 @@
+package org.restful.product.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.fasterxml.jackson.dataformat.csv.CsvParser.Feature.EMPTY_STRING_AS_NULL;
+import static com.fasterxml.jackson.dataformat.csv.CsvParser.Feature.TRIM_SPACES;
+
+/**
+ * Lê o corpo de uma importação linha a linha, sem carregá-lo inteiro em memória: CSV com cabeçalho (as colunas
+ * são associadas pelo nome, em qualquer ordem) ou NDJSON.
+ */
+@Schema(description = "Formatos aceitos pelas importações em lote do catálogo.")
+final class ImportFormat {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(TRIM_SPACES, EMPTY_STRING_AS_NULL)
+            .build();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private ImportFormat() {
+    }
+
+    static <T> MappingIterator<T> readRows(
+            InputStream body,
+            MediaType contentType,
+            Class<T> rowType,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        if (TEXT_CSV.includes(contentType)) return CSV_MAPPER.readerFor(rowType).with(CSV_SCHEMA).readValues(body);
+        return objectMapper.readerFor(rowType).readValues(body);
+    }
+}
@@ -0,0 +1,118 @@
+package org.restful.product.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.dto.ImportResponse;
+import org.restful.product.dto.ProductCursorPageResponse;
+import org.restful.product.dto.ProductImportRequest;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.dto.StockResponse;
+import org.restful.product.service.CatalogImportService;
+import org.restful.product.service.ProductCatalogService;
+import org.restful.product.service.ProductSearchService;
+import org.restful.product.service.StockReservationService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+import static org.restful.product.controller.ImportFormat.TEXT_CSV_VALUE;
+import static org.restful.product.controller.ImportFormat.readRows;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.ResponseEntity.ok;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/product")
+@Schema(description = "Controlador REST para consultar e importar produtos do catálogo")
+@Tag(name = "Product Controller", description = "Controller para consulta e importação de produtos")
+public class ProductController {
+
+    private final ProductCatalogService productCatalogService;
+    private final CatalogImportService catalogImportService;
+    private final StockReservationService stockReservationService;
+    private final ProductSearchService productSearchService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "Listar produtos de uma categoria por cursor", description = "Retorna os produtos da categoria ordenados por preço ou nome (price, -price, name, -name). Cada resposta traz o cursor da próxima página; como a leitura continua do ponto do cursor no índice, qualquer página custa o mesmo que a primeira.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de produtos retornada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Ordenação, cursor ou tamanho de página inválidos."),
+            @ApiResponse(responseCode = "404", description = "Categoria não encontrada.")
+    })
+    @GetMapping
+    public ResponseEntity<ProductCursorPageResponse> listProducts(
+            @RequestParam("category-id") Integer categoryId,
+            @RequestParam(value = "sort", defaultValue = "price") String sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ok(productCatalogService.browseProductsByCategory(categoryId, sort, cursor, size));
+    }
+
+    @Operation(summary = "Buscar produtos", description = "Busca textual no nome e na descrição dos produtos, com resultados ordenados pela relevância (o nome pesa mais que a descrição). Aceita \"frases\" entre aspas e -exclusões, e pode ser filtrada por categoria e faixa de preço. Quando a busca casa com mais de 10000 produtos, só os 10000 primeiros encontrados são ranqueados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de resultados retornada com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Texto, filtros ou paginação inválidos.")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ProductPageResponse> searchProducts(
+            @RequestParam("q") String text,
+            @RequestParam(value = "category-id", required = false) Integer categoryId,
+            @RequestParam(value = "min-price", required = false) BigDecimal minPrice,
+            @RequestParam(value = "max-price", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ok(productSearchService.search(text, categoryId, minPrice, maxPrice, page, size));
+    }
+
+    @Operation(summary = "Obter um produto", description = "Retorna o produto com o ID informado e a sua categoria, lidos em uma única consulta.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Produto retornado com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado.")
+    })
+    @GetMapping("/{product-id}")
+    public ResponseEntity<ProductResponse> getProduct(
+            @PathVariable("product-id") Integer productId
+    ) {
+        return ok(productCatalogService.findProductById(productId));
+    }
+
+    @Operation(summary = "Obter o estoque de um produto", description = "Retorna o estoque livre para novas reservas e o estoque reservado e ainda não confirmado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estoque retornado com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado.")
+    })
+    @GetMapping("/{product-id}/stock")
+    public ResponseEntity<StockResponse> getStock(
+            @PathVariable("product-id") Integer productId
+    ) {
+        return ok(stockReservationService.findStock(productId));
+    }
+
+    @Operation(summary = "Importar produtos em lote", description = "Recebe um CSV com cabeçalho ou um fluxo NDJSON de produtos, valida cada linha e grava em blocos com INSERTs em lote. Cada produto referencia uma categoria existente pelo categoryId.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação processada; informa quantas linhas foram gravadas e as falhas.")
+    })
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importProducts(
+            InputStream requestBody,
+            @RequestHeader(CONTENT_TYPE) MediaType contentType
+    ) throws IOException {
+        try (MappingIterator<ProductImportRequest> rows = readRows(requestBody, contentType, ProductImportRequest.class, objectMapper)) {
+            return ok(catalogImportService.importProducts(rows));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.restful.product.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.dto.ReservationRequest;
+import org.restful.product.dto.ReservationResponse;
+import org.restful.product.service.StockReservationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.http.ResponseEntity.status;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reservation")
+@Schema(description = "Controlador REST para reservar, confirmar e liberar estoque de produtos")
+@Tag(name = "Reservation Controller", description = "Controller para reservas de estoque")
+public class ReservationController {
+
+    private final StockReservationService stockReservationService;
+
+    @Operation(summary = "Reservar estoque", description = "Retira a quantidade do estoque livre do produto e a mantém reservada até a confirmação, a liberação ou a expiração da reserva.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Reserva criada com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado."),
+            @ApiResponse(responseCode = "409", description = "Estoque livre insuficiente.")
+    })
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserve(
+            @RequestBody @Valid ReservationRequest reservationRequest
+    ) {
+        return status(CREATED).body(stockReservationService.reserve(reservationRequest));
+    }
+
+    @Operation(summary = "Confirmar uma reserva", description = "Baixa definitivamente a quantidade reservada. Só reservas pendentes e não expiradas podem ser confirmadas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reserva confirmada com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Reserva não encontrada."),
+            @ApiResponse(responseCode = "409", description = "A reserva já foi confirmada, liberada ou expirou.")
+    })
+    @PostMapping("/{reservation-id}/confirm")
+    public ResponseEntity<ReservationResponse> confirm(
+            @PathVariable("reservation-id") UUID reservationId
+    ) {
+        return ok(stockReservationService.confirm(reservationId));
+    }
+
+    @Operation(summary = "Liberar uma reserva", description = "Devolve a quantidade reservada ao estoque livre do produto.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reserva liberada com sucesso."),
+            @ApiResponse(responseCode = "404", description = "Reserva não encontrada."),
+            @ApiResponse(responseCode = "409", description = "A reserva já foi confirmada, liberada ou expirou.")
+    })
+    @PostMapping("/{reservation-id}/release")
+    public ResponseEntity<ReservationResponse> release(
+            @PathVariable("reservation-id") UUID reservationId
+    ) {
+        return ok(stockReservationService.release(reservationId));
+    }
+}
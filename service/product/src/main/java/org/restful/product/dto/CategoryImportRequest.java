@@ -0,0 +1,18 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Linha de uma importação de categorias em lote (CSV com cabeçalho ou NDJSON).")
+public record CategoryImportRequest(
+
+        @NotBlank(message = "Category name is required")
+        @Size(max = 255, message = "Category name must have at most 255 characters")
+        String name,
+
+        @NotBlank(message = "Category description is required")
+        @Size(max = 255, message = "Category description must have at most 255 characters")
+        String description
+) {
+}
@@ -0,0 +1,15 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO para uma página de categorias com os seus produtos.")
+public record CategoryPageResponse(
+        List<CategoryResponse> content,
+        int page,
+
+        @Schema(description = "Indica se há uma próxima página; o total não é calculado para não contar todas as linhas.")
+        boolean hasNext
+) {
+}
@@ -0,0 +1,27 @@
+package org.restful.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Schema(description = "DTO de resposta de uma categoria e, quando solicitado, dos seus produtos.")
+@JsonInclude(NON_NULL)
+public record CategoryResponse(
+        Integer id,
+        String name,
+        String description,
+
+        @Schema(description = "Produtos da categoria, quando solicitados. Na listagem de categorias vêm no máximo 20 (os de menor ID); os demais são paginados em /api/v1/category/{category-id}/products.")
+        List<ProductResponse> products
+) {
+    public CategoryResponse(Integer id, String name, String description) {
+        this(id, name, description, null);
+    }
+
+    public CategoryResponse withProducts(List<ProductResponse> products) {
+        return new CategoryResponse(id, name, description, products);
+    }
+}
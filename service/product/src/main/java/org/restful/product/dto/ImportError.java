@@ -0,0 +1,14 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Falha de uma linha dentro de uma importação em lote.")
+public record ImportError(
+
+        @Schema(description = "Posição da linha no corpo da requisição, a partir de zero (sem contar o cabeçalho do CSV).")
+        long index,
+
+        @Schema(description = "Motivo da falha.")
+        String error
+) {
+}
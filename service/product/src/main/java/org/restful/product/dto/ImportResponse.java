@@ -0,0 +1,15 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO de resposta de uma importação em lote.")
+public record ImportResponse(
+        long imported,
+        long failed,
+
+        @Schema(description = "Primeiras falhas da importação; as demais são apenas contadas em 'failed'.")
+        List<ImportError> errors
+) {
+}
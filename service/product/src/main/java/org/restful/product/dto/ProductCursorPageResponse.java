@@ -0,0 +1,14 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO para uma página de produtos paginada por cursor.")
+public record ProductCursorPageResponse(
+        List<ProductResponse> content,
+
+        @Schema(description = "Cursor opaco da próxima página, a ser repassado no parâmetro cursor; nulo na última página.")
+        String nextCursor
+) {
+}
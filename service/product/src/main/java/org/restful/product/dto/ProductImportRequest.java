@@ -0,0 +1,34 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Linha de uma importação de produtos em lote (CSV com cabeçalho ou NDJSON).")
+public record ProductImportRequest(
+
+        @NotBlank(message = "Product name is required")
+        @Size(max = 255, message = "Product name must have at most 255 characters")
+        String name,
+
+        @NotBlank(message = "Product description is required")
+        @Size(max = 255, message = "Product description must have at most 255 characters")
+        String description,
+
+        @NotNull(message = "Product available quantity is required")
+        @PositiveOrZero(message = "Product available quantity must not be negative")
+        Double availableQuantity,
+
+        @NotNull(message = "Product price is required")
+        @PositiveOrZero(message = "Product price must not be negative")
+        BigDecimal price,
+
+        @NotNull(message = "Product category is required")
+        @Schema(description = "ID de uma categoria existente.")
+        Integer categoryId
+) {
+}
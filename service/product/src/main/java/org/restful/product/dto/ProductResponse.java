@@ -0,0 +1,16 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "DTO de resposta de um produto do catálogo, com a categoria achatada. O estoque, que muda a cada reserva, não faz parte do catálogo (e do seu cache) e é consultado em /api/v1/product/{product-id}/stock.")
+public record ProductResponse(
+        Integer id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer categoryId,
+        String categoryName
+) {
+}
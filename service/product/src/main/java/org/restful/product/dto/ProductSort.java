@@ -0,0 +1,56 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+@Schema(description = "Ordenações da listagem de produtos por categoria; o prefixo '-' indica ordem decrescente.")
+public enum ProductSort {
+    PRICE("price", "p.price", false),
+    PRICE_DESC("-price", "p.price", true),
+    NAME("name", "p.name", false),
+    NAME_DESC("-name", "p.name", true);
+
+    private final String parameter;
+    private final String path;
+    private final boolean descending;
+
+    ProductSort(String parameter, String path, boolean descending) {
+        this.parameter = parameter;
+        this.path = path;
+        this.descending = descending;
+    }
+
+    public static ProductSort parse(String parameter) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.parameter.equals(parameter))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(format("Sort must be one of %s",
+                        Arrays.stream(values()).map(ProductSort::parameter).collect(joining(", ")))));
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    /**
+     * Caminho JPQL do atributo ordenado; nunca vem da requisição, só das constantes acima.
+     */
+    public String path() {
+        return path;
+    }
+
+    public boolean descending() {
+        return descending;
+    }
+
+    /**
+     * Valor da chave de ordenação de um produto, gravado no cursor da página seguinte.
+     */
+    public Object keyOf(ProductResponse product) {
+        return this == PRICE || this == PRICE_DESC ? product.price() : product.name();
+    }
+}
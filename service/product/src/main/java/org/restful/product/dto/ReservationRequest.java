@@ -0,0 +1,16 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "DTO para reservar estoque de um produto.")
+public record ReservationRequest(
+
+        @NotNull(message = "Product is required")
+        Integer productId,
+
+        @Positive(message = "Quantity must be positive")
+        double quantity
+) {
+}
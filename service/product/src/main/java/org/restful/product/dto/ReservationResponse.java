@@ -0,0 +1,19 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.entity.ReservationStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "DTO de resposta de uma reserva de estoque.")
+public record ReservationResponse(
+        UUID id,
+        Integer productId,
+        double quantity,
+        ReservationStatus status,
+
+        @Schema(description = "Momento a partir do qual uma reserva pendente é liberada automaticamente.")
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,15 @@
+package org.restful.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "DTO com o estoque de um produto.")
+public record StockResponse(
+        Integer productId,
+
+        @Schema(description = "Estoque livre, disponível para novas reservas.")
+        double available,
+
+        @Schema(description = "Estoque reservado e ainda não confirmado nem liberado.")
+        double reserved
+) {
+}
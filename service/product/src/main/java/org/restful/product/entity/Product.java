@@ -6,7 +6,8 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.util.Objects;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.FetchType.LAZY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -17,14 +18,16 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "product_id_seq")
+    @SequenceGenerator(name = "product_id_seq", sequenceName = "product_id_seq", allocationSize = 50)
     private Integer id;
     private String name;
     private String description;
     private double availableQuantity;
+    private double reservedQuantity;
     private BigDecimal price;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
 
@@ -63,6 +66,7 @@ public class Product {
                "\t\t\"name\": \"" + name + "\",\n" +
                "\t\t\"description\": \"" + description + "\",\n" +
                "\t\t\"availableQuantity\": " + availableQuantity + ",\n" +
+               "\t\t\"reservedQuantity\": " + reservedQuantity + ",\n" +
                "\t\t\"price\": " + price + ",\n" +
                "\t\t\"category\": " + (category != null ? category.getId() : null) + "\n" +
                "\t}\n";
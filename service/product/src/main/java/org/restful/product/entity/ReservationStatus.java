@@ -0,0 +1,11 @@
+package org.restful.product.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Situação de uma reserva de estoque.")
+public enum ReservationStatus {
+    PENDING,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,76 @@
+package org.restful.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.FetchType.LAZY;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Entity
+public class StockReservation {
+
+    /**
+     * Gerado na aplicação, para que as reservas de um lote sejam inseridas em um único lote JDBC.
+     */
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "product_id")
+    private Product product;
+
+    private double quantity;
+
+    @Enumerated(STRING)
+    private ReservationStatus status;
+
+    private Instant createdAt;
+    private Instant expiresAt;
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+
+        Class<?> oEffectiveClass = o instanceof org.hibernate.proxy.HibernateProxy
+                ? ((org.hibernate.proxy.HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass()
+                : o.getClass();
+
+        Class<?> thisEffectiveClass = this instanceof org.hibernate.proxy.HibernateProxy
+                ? ((org.hibernate.proxy.HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass()
+                : this.getClass();
+
+        if (thisEffectiveClass != oEffectiveClass) return false;
+
+        StockReservation that = (StockReservation) o;
+
+        return getId() != null &&
+               Objects.equals(this.getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return this instanceof org.hibernate.proxy.HibernateProxy
+                ? ((org.hibernate.proxy.HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode()
+                : getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "\t{\n" +
+               "\t\t\"id\": \"" + id + "\",\n" +
+               "\t\t\"quantity\": " + quantity + ",\n" +
+               "\t\t\"status\": \"" + status + "\",\n" +
+               "\t\t\"expiresAt\": \"" + expiresAt + "\"\n" +
+               "\t}\n";
+    }
+}
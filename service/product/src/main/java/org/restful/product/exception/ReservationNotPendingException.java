@@ -0,0 +1,14 @@
+package org.restful.product.exception;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+@ResponseStatus(CONFLICT)
+@Schema(description = "Exceção lançada quando uma reserva já foi confirmada, liberada ou expirou.")
+public class ReservationNotPendingException extends RuntimeException {
+    public ReservationNotPendingException(String message) {
+        super(message);
+    }
+}
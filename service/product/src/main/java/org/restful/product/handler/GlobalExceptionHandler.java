@@ -0,0 +1,98 @@
+package org.restful.product.handler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.exception.CategoryNotFoundException;
+import org.restful.product.exception.InsufficientStockException;
+import org.restful.product.exception.ProductNotFoundException;
+import org.restful.product.exception.ReservationNotFoundException;
+import org.restful.product.exception.ReservationNotPendingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+import static java.time.LocalDateTime.now;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+
+@Schema(description = "GlobalExceptionHandler")
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class GlobalExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @Schema(description = "Manipula a exceção IllegalArgumentException, lançada quando um argumento inválido é passado.")
+    public ResponseEntity<List<ErrorDetails>> handleIllegalArgumentException(
+            IllegalArgumentException exception,
+            WebRequest webRequest
+    ) {
+        return error(exception, webRequest, "INVALID_ARGUMENT", BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ProductNotFoundException.class)
+    @Schema(description = "Manipula a exceção ProductNotFoundException, lançada quando um produto não é encontrado.")
+    public ResponseEntity<List<ErrorDetails>> handleProductNotFoundException(
+            ProductNotFoundException exception,
+            WebRequest webRequest
+    ) {
+        return error(exception, webRequest, "PRODUCT_NOT_FOUND", NOT_FOUND);
+    }
+
+    @ExceptionHandler(CategoryNotFoundException.class)
+    @Schema(description = "Manipula a exceção CategoryNotFoundException, lançada quando uma categoria não é encontrada.")
+    public ResponseEntity<List<ErrorDetails>> handleCategoryNotFoundException(
+            CategoryNotFoundException exception,
+            WebRequest webRequest
+    ) {
+        return error(exception, webRequest, "CATEGORY_NOT_FOUND", NOT_FOUND);
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    @Schema(description = "Manipula a exceção InsufficientStockException, lançada quando não há estoque livre suficiente para uma reserva.")
+    public ResponseEntity<List<ErrorDetails>> handleInsufficientStockException(
+            InsufficientStockException exception,
+            WebRequest webRequest
+    ) {
+        return error(exception, webRequest, "INSUFFICIENT_STOCK", CONFLICT);
+    }
+
+    @ExceptionHandler(ReservationNotFoundException.class)
+    @Schema(description = "Manipula a exceção ReservationNotFoundException, lançada quando uma reserva não é encontrada.")
+    public ResponseEntity<List<ErrorDetails>> handleReservationNotFoundException(
+            ReservationNotFoundException exception,
+            WebRequest webRequest
+    ) {
+        return error(exception, webRequest, "RESERVATION_NOT_FOUND", NOT_FOUND);
+    }
+
+    @ExceptionHandler(ReservationNotPendingException.class)
+    @Schema(description = "Manipula a exceção ReservationNotPendingException, lançada quando uma reserva já foi confirmada, liberada ou expirou.")
+    public ResponseEntity<List<ErrorDetails>> handleReservationNotPendingException(
+            ReservationNotPendingException exception,
+            WebRequest webRequest
+    ) {
+        return error(exception, webRequest, "RESERVATION_NOT_PENDING", CONFLICT);
+    }
+
+    private ResponseEntity<List<ErrorDetails>> error(Exception exception, WebRequest webRequest, String code, HttpStatus status) {
+        meterRegistry.counter("product.exceptions", "exception", exception.getClass().getSimpleName(), "code", code)
+                .increment();
+        ErrorDetails errorDetails = new ErrorDetails(
+                now(),
+                exception.getMessage(),
+                webRequest.getDescription(false),
+                code
+        );
+
+        return new ResponseEntity<>(List.of(errorDetails), status);
+    }
+}
@@ -0,0 +1,28 @@
+package org.restful.product.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.CategoryResponse;
+import org.restful.product.entity.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+@Repository("categoryRepository")
+@Schema(description = "Repositório para a entidade Category.")
+public interface CategoryRepository extends JpaRepository<Category, Integer> {
+
+    @Query("""
+            select new org.restful.product.dto.CategoryResponse(c.id, c.name, c.description)
+            from Category c
+            order by c.id
+            """)
+    Slice<CategoryResponse> findResponsesBy(Pageable pageable);
+
+    @Query("select c.id from Category c where c.id in :ids")
+    Set<Integer> findExistingIds(Collection<Integer> ids);
+}
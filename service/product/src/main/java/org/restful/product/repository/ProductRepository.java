@@ -0,0 +1,117 @@
+package org.restful.product.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.dto.StockResponse;
+import org.restful.product.entity.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * As consultas do catálogo projetam direto em {@link ProductResponse} com um join explícito na categoria: cada
+ * chamada é um único SELECT, sem carregar entidades, sem proxies de {@code category} e, portanto, sem N+1.
+ */
+@Repository("productRepository")
+@Schema(description = "Repositório para a entidade Product.")
+public interface ProductRepository extends JpaRepository<Product, Integer>, ProductRepositoryCustom {
+
+    @Query("""
+            select new org.restful.product.dto.ProductResponse(p.id, p.name, p.description, p.price, c.id, c.name)
+            from Product p join p.category c
+            where p.id = :id
+            """)
+    Optional<ProductResponse> findResponseById(Integer id);
+
+    @Query("""
+            select new org.restful.product.dto.ProductResponse(p.id, p.name, p.description, p.price, c.id, c.name)
+            from Product p join p.category c
+            where c.id = :categoryId
+            order by p.id
+            """)
+    Slice<ProductResponse> findResponsesByCategoryId(Integer categoryId, Pageable pageable);
+
+    /**
+     * Os {@code limit} primeiros produtos (por ID) de cada categoria, numerados por {@code row_number()} dentro da
+     * categoria: o resultado tem no máximo {@code limit} linhas por categoria, por maior que ela seja.
+     */
+    @Query("""
+            select new org.restful.product.dto.ProductResponse(r.id, r.name, r.description, r.price, r.categoryId, r.categoryName)
+            from (
+                select p.id as id, p.name as name, p.description as description, p.price as price,
+                       c.id as categoryId, c.name as categoryName,
+                       row_number() over (partition by c.id order by p.id) as position
+                from Product p join p.category c
+                where c.id in :categoryIds
+            ) r
+            where r.position <= :limit
+            order by r.categoryId, r.id
+            """)
+    List<ProductResponse> findResponsesByCategoryIdIn(Collection<Integer> categoryIds, int limit);
+
+    /**
+     * Busca textual pelo índice GIN de {@code search_vector} (migração V4), ordenada pela relevância e, no empate,
+     * pelo ID. O texto aceita a sintaxe de {@code websearch_to_tsquery}: palavras, "frases" e -exclusões. Os filtros
+     * opcionais são ignorados quando nulos. Só as primeiras {@code candidates} linhas que atendem à busca e aos
+     * filtros são lidas da tabela e ranqueadas; quando há mais, as demais ficam de fora do resultado.
+     */
+    @Query(nativeQuery = true, value = """
+            select candidate.id, candidate.name, candidate.description, candidate.price,
+                   c.id as "categoryId", c.name as "categoryName"
+            from (select p.id, p.name, p.description, p.price, p.category_id, p.search_vector, query
+                  from product p
+                           cross join websearch_to_tsquery('portuguese', :text) query
+                  where p.search_vector @@ query
+                    and (cast(:categoryId as integer) is null or p.category_id = :categoryId)
+                    and (cast(:minPrice as numeric) is null or p.price >= :minPrice)
+                    and (cast(:maxPrice as numeric) is null or p.price <= :maxPrice)
+                  limit :candidates) candidate
+                     join category c on c.id = candidate.category_id
+            order by ts_rank_cd(candidate.search_vector, candidate.query) desc, candidate.id
+            """)
+    Slice<SearchRow> search(String text, Integer categoryId, BigDecimal minPrice, BigDecimal maxPrice, int candidates, Pageable pageable);
+
+    /**
+     * Reserva com um único UPDATE condicional: só decrementa se houver estoque livre suficiente, então duas
+     * reservas concorrentes (inclusive em instâncias diferentes) nunca vendem além do estoque, sem lock explícito.
+     */
+    @Modifying
+    @Query("""
+            update Product p
+            set p.availableQuantity = p.availableQuantity - :quantity, p.reservedQuantity = p.reservedQuantity + :quantity
+            where p.id = :id and p.availableQuantity >= :quantity
+            """)
+    int reserveStock(Integer id, double quantity);
+
+    @Modifying
+    @Query("update Product p set p.reservedQuantity = p.reservedQuantity - :quantity where p.id = :id")
+    int confirmReservedStock(Integer id, double quantity);
+
+    @Modifying
+    @Query("""
+            update Product p
+            set p.availableQuantity = p.availableQuantity + :quantity, p.reservedQuantity = p.reservedQuantity - :quantity
+            where p.id = :id
+            """)
+    int releaseReservedStock(Integer id, double quantity);
+
+    @Query("select new org.restful.product.dto.StockResponse(p.id, p.availableQuantity, p.reservedQuantity) from Product p where p.id = :id")
+    Optional<StockResponse> findStockById(Integer id);
+
+    interface SearchRow {
+        Integer getId();
+        String getName();
+        String getDescription();
+        BigDecimal getPrice();
+        Integer getCategoryId();
+        String getCategoryName();
+    }
+}
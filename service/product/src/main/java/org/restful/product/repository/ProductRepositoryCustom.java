@@ -0,0 +1,18 @@
+package org.restful.product.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.dto.ProductSort;
+
+import java.util.List;
+
+@Schema(description = "Consultas do repositório de produtos montadas conforme a ordenação pedida.")
+public interface ProductRepositoryCustom {
+
+    /**
+     * Lista os produtos da categoria na ordem {@code sort}, começando logo após a chave ({@code afterKey},
+     * {@code afterId}), ou do início quando {@code afterId} é nulo. A condição é uma comparação de tuplas sobre as
+     * mesmas colunas do índice, então o banco posiciona a leitura direto no ponto de partida, sem OFFSET.
+     */
+    List<ProductResponse> findResponsesByCategoryIdAfter(Integer categoryId, ProductSort sort, Object afterKey, Integer afterId, int limit);
+}
@@ -0,0 +1,44 @@
+package org.restful.product.repository;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.entity.ReservationStatus;
+import org.restful.product.entity.StockReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository("stockReservationRepository")
+@Schema(description = "Repositório para a entidade StockReservation.")
+public interface StockReservationRepository extends JpaRepository<StockReservation, UUID> {
+
+    /**
+     * Muda a situação apenas se a reserva ainda estiver pendente; confirmar, liberar e expirar a mesma reserva ao
+     * mesmo tempo resulta em uma única transição, e o estoque é devolvido ou baixado uma única vez.
+     */
+    @Modifying
+    @Query("""
+            update StockReservation r set r.status = :status
+            where r.id = :id and r.status = org.restful.product.entity.ReservationStatus.PENDING
+            """)
+    int finishPending(UUID id, ReservationStatus status);
+
+    @Modifying
+    @Query("""
+            update StockReservation r set r.status = org.restful.product.entity.ReservationStatus.CONFIRMED
+            where r.id = :id and r.status = org.restful.product.entity.ReservationStatus.PENDING and r.expiresAt > :now
+            """)
+    int confirmPending(UUID id, Instant now);
+
+    @Query("""
+            select r from StockReservation r
+            where r.status = org.restful.product.entity.ReservationStatus.PENDING and r.expiresAt < :now
+            order by r.expiresAt
+            """)
+    List<StockReservation> findExpired(Instant now, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package org.restful.product.repository.impl;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.dto.ProductSort;
+import org.restful.product.repository.ProductRepositoryCustom;
+
+import java.util.List;
+
+import static java.lang.String.format;
+
+@RequiredArgsConstructor
+@Schema(description = "Implementação das operações customizadas do repositório de produtos.")
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ProductResponse> findResponsesByCategoryIdAfter(Integer categoryId, ProductSort sort, Object afterKey, Integer afterId, int limit) {
+        String direction = sort.descending() ? "desc" : "asc";
+        StringBuilder jpql = new StringBuilder("""
+                select new org.restful.product.dto.ProductResponse(p.id, p.name, p.description, p.price, c.id, c.name)
+                from Product p join p.category c
+                where p.category.id = :categoryId
+                """);
+        if (afterId != null) {
+            jpql.append(format("and (%s, p.id) %s (:afterKey, :afterId)%n", sort.path(), sort.descending() ? "<" : ">"));
+        }
+        jpql.append(format("order by %s %s, p.id %s", sort.path(), direction, direction));
+
+        TypedQuery<ProductResponse> query = entityManager.createQuery(jpql.toString(), ProductResponse.class)
+                .setParameter("categoryId", categoryId)
+                .setMaxResults(limit);
+        if (afterId != null) {
+            query.setParameter("afterKey", afterKey).setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+}
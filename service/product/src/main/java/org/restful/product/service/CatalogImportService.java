@@ -0,0 +1,15 @@
+package org.restful.product.service;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.CategoryImportRequest;
+import org.restful.product.dto.ImportResponse;
+import org.restful.product.dto.ProductImportRequest;
+
+import java.util.Iterator;
+
+@Schema(description = "Interface de serviço para a importação do catálogo em lote.")
+public interface CatalogImportService {
+
+    ImportResponse importCategories(Iterator<CategoryImportRequest> categoryRows);
+    ImportResponse importProducts(Iterator<ProductImportRequest> productRows);
+}
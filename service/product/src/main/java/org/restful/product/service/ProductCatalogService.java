@@ -0,0 +1,16 @@
+package org.restful.product.service;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.CategoryPageResponse;
+import org.restful.product.dto.ProductCursorPageResponse;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+
+@Schema(description = "Interface de serviço para as consultas do catálogo de produtos.")
+public interface ProductCatalogService {
+
+    ProductResponse findProductById(Integer productId);
+    ProductPageResponse findProductsByCategory(Integer categoryId, int page, int size);
+    CategoryPageResponse findCategoriesWithProducts(int page, int size);
+    ProductCursorPageResponse browseProductsByCategory(Integer categoryId, String sort, String cursor, int size);
+}
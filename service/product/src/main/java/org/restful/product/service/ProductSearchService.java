@@ -0,0 +1,12 @@
+package org.restful.product.service;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.ProductPageResponse;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Interface de serviço para a busca textual de produtos.")
+public interface ProductSearchService {
+
+    ProductPageResponse search(String text, Integer categoryId, BigDecimal minPrice, BigDecimal maxPrice, int page, int size);
+}
@@ -0,0 +1,19 @@
+package org.restful.product.service;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.dto.ReservationRequest;
+import org.restful.product.dto.ReservationResponse;
+import org.restful.product.dto.StockResponse;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "Interface de serviço para reservas de estoque de produtos.")
+public interface StockReservationService {
+
+    ReservationResponse reserve(ReservationRequest reservationRequest);
+    ReservationResponse confirm(UUID reservationId);
+    ReservationResponse release(UUID reservationId);
+    StockResponse findStock(Integer productId);
+    int expireReservations(Instant now);
+}
@@ -0,0 +1,73 @@
+package org.restful.product.service.impl;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.restful.product.cache.CatalogCache;
+import org.restful.product.dto.CategoryPageResponse;
+import org.restful.product.dto.ProductCursorPageResponse;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.service.ProductCatalogService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Atende as consultas do catálogo pelo {@link CatalogCache} e só chama o {@code productCatalogService} (e abre a
+ * transação) quando o resultado não está em cache.
+ * <p>
+ * As cargas rodam em uma transação de leitura e escrita, que fica no primário mesmo com a réplica de leitura
+ * configurada: as invalidações vêm das notificações do primário, e uma carga lida de uma réplica atrasada guardaria
+ * de novo a versão que acabou de ser invalidada.
+ */
+@Primary
+@Service("cachedProductCatalogService")
+@ConditionalOnProperty(value = "product.cache.enabled", matchIfMissing = true)
+@Schema(description = "Implementação da interface ProductCatalogService com cache em memória.")
+public class CachedProductCatalogServiceImpl implements ProductCatalogService {
+
+    private final ProductCatalogService productCatalogService;
+    private final CatalogCache catalogCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public CachedProductCatalogServiceImpl(
+            @Qualifier("productCatalogService") ProductCatalogService productCatalogService,
+            CatalogCache catalogCache,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.productCatalogService = productCatalogService;
+        this.catalogCache = catalogCache;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public ProductResponse findProductById(Integer productId) {
+        return catalogCache.getProduct(productId, onPrimary(() -> productCatalogService.findProductById(productId)));
+    }
+
+    @Override
+    public ProductPageResponse findProductsByCategory(Integer categoryId, int page, int size) {
+        return catalogCache.getCategoryProducts(categoryId, page, size,
+                onPrimary(() -> productCatalogService.findProductsByCategory(categoryId, page, size)));
+    }
+
+    @Override
+    public CategoryPageResponse findCategoriesWithProducts(int page, int size) {
+        return catalogCache.getCategories(page, size, onPrimary(() -> productCatalogService.findCategoriesWithProducts(page, size)));
+    }
+
+    /**
+     * Não passa pelo cache: as páginas por cursor raramente se repetem e o keyset já lê só o trecho do índice da página.
+     */
+    @Override
+    public ProductCursorPageResponse browseProductsByCategory(Integer categoryId, String sort, String cursor, int size) {
+        return productCatalogService.browseProductsByCategory(categoryId, sort, cursor, size);
+    }
+
+    private <T> Supplier<T> onPrimary(Supplier<T> loader) {
+        return () -> transactionTemplate.execute(status -> loader.get());
+    }
+}
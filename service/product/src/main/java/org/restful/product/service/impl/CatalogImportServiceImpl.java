@@ -0,0 +1,182 @@
+package org.restful.product.service.impl;
+
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.dto.CategoryImportRequest;
+import org.restful.product.dto.ImportError;
+import org.restful.product.dto.ImportResponse;
+import org.restful.product.dto.ProductImportRequest;
+import org.restful.product.entity.Category;
+import org.restful.product.entity.Product;
+import org.restful.product.repository.CategoryRepository;
+import org.restful.product.service.CatalogImportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Importa o catálogo em blocos de {@code product.import.chunk-size} linhas, cada bloco em uma transação. Os IDs vêm
+ * das sequências com {@code allocationSize} 50 (uma ida ao banco a cada 50 linhas) e os INSERTs são enviados em
+ * lotes JDBC ({@code hibernate.jdbc.batch_size}); o contexto de persistência é limpo ao fim de cada bloco, então o
+ * consumo de memória não depende do tamanho do arquivo.
+ * <p>
+ * Linhas inválidas, mal formadas ou com categoria inexistente são recusadas individualmente; um erro do banco recusa
+ * o bloco inteiro, sem afetar os blocos já gravados. Só um erro de sintaxe interrompe a importação, já que depois
+ * dele não há como localizar o início da próxima linha.
+ */
+@Service("catalogImportService")
+@RequiredArgsConstructor
+@Schema(description = "Implementação da interface CatalogImportService.")
+public class CatalogImportServiceImpl implements CatalogImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @Value("${product.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public ImportResponse importCategories(Iterator<CategoryImportRequest> categoryRows) {
+        return importRows(categoryRows, this::persistCategories);
+    }
+
+    @Override
+    public ImportResponse importProducts(Iterator<ProductImportRequest> productRows) {
+        return importRows(productRows, this::persistProducts);
+    }
+
+    private <T> ImportResponse importRows(Iterator<T> rows, ChunkWriter<T> writer) {
+        Report report = new Report();
+        List<Row<T>> chunk = new ArrayList<>(chunkSize);
+
+        for (long index = 0; ; index++) {
+            T row;
+            try {
+                if (!rows.hasNext()) break;
+                row = rows.next();
+            } catch (RuntimeJsonMappingException e) {
+                // Valor incompatível com o campo: o MappingIterator já avançou até o fim da linha.
+                report.fail(index, format("Malformed row: %s", e.getMessage()));
+                continue;
+            } catch (RuntimeException e) {
+                report.fail(index, format("Malformed row: %s", e.getMessage()));
+                break;
+            }
+
+            Set<ConstraintViolation<T>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                report.fail(index, describe(violations));
+                continue;
+            }
+            chunk.add(new Row<>(index, row));
+            if (chunk.size() == chunkSize) {
+                write(chunk, writer, report);
+                chunk.clear();
+            }
+        }
+        write(chunk, writer, report);
+        return report.toResponse();
+    }
+
+    private <T> void write(List<Row<T>> chunk, ChunkWriter<T> writer, Report report) {
+        if (chunk.isEmpty()) return;
+        try {
+            Map<Long, String> failures = transactionTemplate.execute(status -> writer.write(chunk));
+            report.imported += chunk.size() - failures.size();
+            failures.forEach(report::fail);
+        } catch (DataAccessException | PersistenceException e) {
+            String error = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            chunk.forEach(row -> report.fail(row.index(), error));
+        }
+    }
+
+    private Map<Long, String> persistCategories(List<Row<CategoryImportRequest>> chunk) {
+        for (Row<CategoryImportRequest> row : chunk) {
+            entityManager.persist(Category.builder()
+                    .name(row.value().name())
+                    .description(row.value().description())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return Map.of();
+    }
+
+    private Map<Long, String> persistProducts(List<Row<ProductImportRequest>> chunk) {
+        Set<Integer> categoryIds = categoryRepository.findExistingIds(chunk.stream()
+                .map(row -> row.value().categoryId())
+                .collect(toSet()));
+
+        Map<Long, String> failures = new TreeMap<>();
+        for (Row<ProductImportRequest> row : chunk) {
+            ProductImportRequest product = row.value();
+            if (!categoryIds.contains(product.categoryId())) {
+                failures.put(row.index(), format("Category with id %d not found", product.categoryId()));
+                continue;
+            }
+            entityManager.persist(Product.builder()
+                    .name(product.name())
+                    .description(product.description())
+                    .availableQuantity(product.availableQuantity())
+                    .price(product.price())
+                    .category(entityManager.getReference(Category.class, product.categoryId()))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return failures;
+    }
+
+    private static <T> String describe(Set<ConstraintViolation<T>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(joining("; "));
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        Map<Long, String> write(List<Row<T>> chunk);
+    }
+
+    private record Row<T>(long index, T value) {
+    }
+
+    private static final class Report {
+
+        private long imported;
+        private long failed;
+        private final List<ImportError> errors = new ArrayList<>();
+
+        private void fail(long index, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new ImportError(index, error));
+        }
+
+        private ImportResponse toResponse() {
+            return new ImportResponse(imported, failed, errors);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.restful.product.service.impl;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.dto.CategoryPageResponse;
+import org.restful.product.dto.CategoryResponse;
+import org.restful.product.dto.ProductCursorPageResponse;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.dto.ProductSort;
+import org.restful.product.exception.CategoryNotFoundException;
+import org.restful.product.exception.ProductNotFoundException;
+import org.restful.product.repository.CategoryRepository;
+import org.restful.product.repository.ProductRepository;
+import org.restful.product.service.ProductCatalogService;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.groupingBy;
+import static org.springframework.data.domain.PageRequest.of;
+
+/**
+ * Cada consulta executa um número fixo de comandos SQL, independente da quantidade de linhas: um SELECT por
+ * produto ou página de produtos e dois para a página de categorias (as categorias e, de uma vez, os produtos de
+ * todas elas), em vez de um SELECT por categoria. Na página de categorias, cada uma traz no máximo
+ * {@value #MAX_PRODUCTS_PER_CATEGORY} produtos; o restante é paginado em {@code /api/v1/category/{category-id}/products}.
+ */
+@Service("productCatalogService")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Schema(description = "Implementação da interface ProductCatalogService.")
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_PRODUCTS_PER_CATEGORY = 20;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    public ProductResponse findProductById(Integer productId) {
+        return productRepository.findResponseById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(format("Product with id %d not found", productId)));
+    }
+
+    @Override
+    public ProductPageResponse findProductsByCategory(Integer categoryId, int page, int size) {
+        validatePage(page, size);
+        Slice<ProductResponse> slice = productRepository.findResponsesByCategoryId(categoryId, of(page, size));
+        if (!slice.hasContent() && page == 0 && !categoryRepository.existsById(categoryId))
+            throw new CategoryNotFoundException(format("Category with id %d not found", categoryId));
+
+        return new ProductPageResponse(slice.getContent(), page, slice.hasNext());
+    }
+
+    @Override
+    public CategoryPageResponse findCategoriesWithProducts(int page, int size) {
+        validatePage(page, size);
+        Slice<CategoryResponse> slice = categoryRepository.findResponsesBy(of(page, size));
+        if (!slice.hasContent()) return new CategoryPageResponse(List.of(), page, false);
+
+        Map<Integer, List<ProductResponse>> products = productRepository
+                .findResponsesByCategoryIdIn(slice.map(CategoryResponse::id).getContent(), MAX_PRODUCTS_PER_CATEGORY)
+                .stream()
+                .collect(groupingBy(ProductResponse::categoryId));
+        List<CategoryResponse> content = slice.getContent().stream()
+                .map(category -> category.withProducts(products.getOrDefault(category.id(), List.of())))
+                .toList();
+        return new CategoryPageResponse(content, page, slice.hasNext());
+    }
+
+    @Override
+    public ProductCursorPageResponse browseProductsByCategory(Integer categoryId, String sort, String cursor, int size) {
+        validatePage(0, size);
+        ProductSort productSort = ProductSort.parse(sort);
+        ProductCursor after = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor, productSort);
+
+        List<ProductResponse> products = productRepository.findResponsesByCategoryIdAfter(
+                categoryId,
+                productSort,
+                after == null ? null : after.key(),
+                after == null ? null : after.id(),
+                size + 1
+        );
+        if (products.isEmpty() && after == null && !categoryRepository.existsById(categoryId))
+            throw new CategoryNotFoundException(format("Category with id %d not found", categoryId));
+
+        if (products.size() <= size) return new ProductCursorPageResponse(products, null);
+        List<ProductResponse> page = products.subList(0, size);
+        return new ProductCursorPageResponse(List.copyOf(page), ProductCursor.after(productSort, page.get(size - 1)).encode());
+    }
+
+    private static void validatePage(int page, int size) {
+        if (page < 0)
+            throw new IllegalArgumentException("Page must not be negative");
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException(format("Size must be between 1 and %d", MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,41 @@
+package org.restful.product.service.impl;
+
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.dto.ProductSort;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.restful.product.dto.ProductSort.PRICE;
+import static org.restful.product.dto.ProductSort.PRICE_DESC;
+
+/**
+ * Posição na listagem por keyset: a chave de ordenação e o ID do último produto da página. Vai ao cliente em
+ * Base64 URL-safe, como um valor opaco; a ordenação faz parte do cursor para que ele não seja usado com outra.
+ */
+record ProductCursor(ProductSort sort, Object key, Integer id) {
+
+    private static final String SEPARATOR = "|";
+
+    static ProductCursor after(ProductSort sort, ProductResponse product) {
+        return new ProductCursor(sort, sort.keyOf(product), product.id());
+    }
+
+    static ProductCursor decode(String cursor, ProductSort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), UTF_8).split("\\" + SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(sort.parameter())) throw new IllegalArgumentException();
+
+            Object key = sort == PRICE || sort == PRICE_DESC ? new BigDecimal(parts[2]) : parts[2];
+            return new ProductCursor(sort, key, Integer.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor for sort " + sort.parameter());
+        }
+    }
+
+    String encode() {
+        String value = sort.parameter() + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+}
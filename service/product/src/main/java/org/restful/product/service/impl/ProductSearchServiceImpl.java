@@ -0,0 +1,75 @@
+package org.restful.product.service.impl;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.repository.ProductRepository;
+import org.restful.product.repository.ProductRepository.SearchRow;
+import org.restful.product.service.ProductSearchService;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static java.lang.String.format;
+import static org.springframework.data.domain.PageRequest.of;
+
+/**
+ * O índice GIN encontra as linhas que atendem à busca, mas ordenar por relevância exige calcular
+ * {@code ts_rank_cd} para cada uma delas, e um termo genérico casa com boa parte do catálogo. Por isso só os
+ * primeiros {@code MAX_CANDIDATES} resultados encontrados são ranqueados: o custo fica limitado mesmo quando a busca
+ * casa com milhões de produtos, ao preço de, nesse caso, a ordem valer apenas entre esses candidatos. A paginação
+ * alcança no máximo os {@code MAX_RESULTS} primeiros, o que basta para quem navega pelas páginas.
+ */
+@Service("productSearchService")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Schema(description = "Implementação da interface ProductSearchService.")
+public class ProductSearchServiceImpl implements ProductSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RESULTS = 1000;
+    private static final int MAX_CANDIDATES = 10_000;
+    private static final int MAX_TEXT_LENGTH = 200;
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public ProductPageResponse search(String text, Integer categoryId, BigDecimal minPrice, BigDecimal maxPrice, int page, int size) {
+        validate(text, minPrice, maxPrice, page, size);
+        Slice<SearchRow> slice = productRepository.search(text.strip(), categoryId, minPrice, maxPrice, MAX_CANDIDATES, of(page, size));
+        return new ProductPageResponse(
+                slice.map(ProductSearchServiceImpl::toResponse).getContent(),
+                page,
+                slice.hasNext() && (long) (page + 1) * size < MAX_RESULTS
+        );
+    }
+
+    private static ProductResponse toResponse(SearchRow row) {
+        return new ProductResponse(
+                row.getId(),
+                row.getName(),
+                row.getDescription(),
+                row.getPrice(),
+                row.getCategoryId(),
+                row.getCategoryName()
+        );
+    }
+
+    private static void validate(String text, BigDecimal minPrice, BigDecimal maxPrice, int page, int size) {
+        if (text == null || text.isBlank())
+            throw new IllegalArgumentException("Search text is required");
+        if (text.length() > MAX_TEXT_LENGTH)
+            throw new IllegalArgumentException(format("Search text must have at most %d characters", MAX_TEXT_LENGTH));
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0)
+            throw new IllegalArgumentException("Minimum price must not be greater than maximum price");
+        if (page < 0)
+            throw new IllegalArgumentException("Page must not be negative");
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException(format("Size must be between 1 and %d", MAX_PAGE_SIZE));
+        if ((long) page * size >= MAX_RESULTS)
+            throw new IllegalArgumentException(format("Search results are limited to the first %d products", MAX_RESULTS));
+    }
+}
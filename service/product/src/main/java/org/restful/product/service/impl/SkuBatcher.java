@@ -0,0 +1,120 @@
+package org.restful.product.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Agrupa as requisições concorrentes para a mesma chave (o SKU) em lotes, no estilo "flat combining": cada chave
+ * tem uma fila e um líder. Quem encontra a chave livre vira líder, retira da fila até {@code maxBatchSize} itens
+ * (inclusive o próprio) e os processa de uma vez; os demais só aguardam o resultado. Enquanto um lote está no
+ * banco, os pedidos que chegam se acumulam e formam o próximo lote, então o tamanho dos lotes cresce com a
+ * contenção e, sem contenção, cada pedido é processado sozinho e sem espera.
+ * <p>
+ * O líder só processa lotes até o seu próprio item ser concluído e então passa a liderança ao dono do primeiro
+ * item da fila, que estava aguardando. Assim o trabalho de um líder é limitado pelos itens à frente do seu, e uma
+ * requisição não fica presa processando os lotes dos outros enquanto a chave continuar disputada.
+ */
+final class SkuBatcher<K, T, R> {
+
+    @FunctionalInterface
+    interface BatchHandler<K, T, R> {
+
+        /**
+         * Processa um lote de uma mesma chave e devolve um resultado por item, na mesma ordem. Uma exceção é
+         * repassada a todos os itens do lote.
+         */
+        List<R> handle(K key, List<T> items);
+    }
+
+    private final ConcurrentHashMap<K, Lane<T, R>> lanes = new ConcurrentHashMap<>();
+    private final BatchHandler<K, T, R> handler;
+    private final int maxBatchSize;
+
+    SkuBatcher(BatchHandler<K, T, R> handler, int maxBatchSize) {
+        if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be positive");
+        this.handler = handler;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    R submit(K key, T item) {
+        Lane<T, R> lane = lanes.computeIfAbsent(key, k -> new Lane<>());
+        Pending<T, R> pending = new Pending<>(item);
+        lane.queue.add(pending);
+
+        if (lane.leader.compareAndSet(false, true)) {
+            lead(key, lane, pending);
+        } else {
+            // Aguarda o resultado (inclusive uma falha, tratada abaixo) ou a promoção a líder.
+            CompletableFuture.anyOf(pending.result, pending.promoted).exceptionally(e -> null).join();
+            if (!pending.result.isDone()) lead(key, lane, pending);
+        }
+
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    /**
+     * Enquanto o próprio item não foi concluído ele está na fila, então sempre há o que retirar.
+     */
+    private void lead(K key, Lane<T, R> lane, Pending<T, R> own) {
+        try {
+            List<Pending<T, R>> batch = new ArrayList<>(Math.min(maxBatchSize, 16));
+            while (!own.result.isDone()) {
+                for (Pending<T, R> next; batch.size() < maxBatchSize && (next = lane.queue.poll()) != null; ) {
+                    batch.add(next);
+                }
+                process(key, batch);
+                batch.clear();
+            }
+        } finally {
+            handOff(lane);
+        }
+    }
+
+    /**
+     * Com a fila vazia, solta a chave e verifica a fila de novo: um pedido que chegou enquanto o líder terminava não
+     * conseguiu a chave e está aguardando, então é promovido.
+     */
+    private void handOff(Lane<T, R> lane) {
+        while (true) {
+            Pending<T, R> head = lane.queue.peek();
+            if (head != null) {
+                head.promoted.complete(null);
+                return;
+            }
+            lane.leader.set(false);
+            if (lane.queue.isEmpty() || !lane.leader.compareAndSet(false, true)) return;
+        }
+    }
+
+    private void process(K key, List<Pending<T, R>> batch) {
+        try {
+            List<R> results = handler.handle(key, batch.stream().map(Pending::item).toList());
+            for (int i = 0; i < batch.size(); i++) batch.get(i).result.complete(results.get(i));
+        } catch (Throwable e) {
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        }
+    }
+
+    private static final class Lane<T, R> {
+        private final Queue<Pending<T, R>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean leader = new AtomicBoolean();
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> result, CompletableFuture<Void> promoted) {
+        private Pending(T item) {
+            this(item, new CompletableFuture<>(), new CompletableFuture<>());
+        }
+    }
+}
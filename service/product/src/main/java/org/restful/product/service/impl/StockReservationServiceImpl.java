@@ -0,0 +1,254 @@
+package org.restful.product.service.impl;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.EntityManager;
+import org.restful.product.dto.ReservationRequest;
+import org.restful.product.dto.ReservationResponse;
+import org.restful.product.dto.StockResponse;
+import org.restful.product.entity.Product;
+import org.restful.product.entity.ReservationStatus;
+import org.restful.product.entity.StockReservation;
+import org.restful.product.exception.InsufficientStockException;
+import org.restful.product.exception.ProductNotFoundException;
+import org.restful.product.exception.ReservationNotFoundException;
+import org.restful.product.exception.ReservationNotPendingException;
+import org.restful.product.repository.ProductRepository;
+import org.restful.product.repository.StockReservationRepository;
+import org.restful.product.service.StockReservationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingDouble;
+import static org.restful.product.entity.ReservationStatus.CONFIRMED;
+import static org.restful.product.entity.ReservationStatus.EXPIRED;
+import static org.restful.product.entity.ReservationStatus.PENDING;
+import static org.restful.product.entity.ReservationStatus.RELEASED;
+import static org.springframework.data.domain.PageRequest.ofSize;
+
+/**
+ * Reserva estoque sem ler e regravar a quantidade nem bloquear a linha do produto: a baixa é um UPDATE condicional
+ * ({@code available_quantity >= :quantity}), atômico no Postgres mesmo entre instâncias, e a quantidade reservada
+ * fica em {@code reserved_quantity} até a reserva ser confirmada, liberada ou expirar.
+ * <p>
+ * Em um produto muito disputado, as reservas concorrentes são agrupadas pelo {@link SkuBatcher}: um lote inteiro é
+ * reservado com um único UPDATE pela soma das quantidades e as reservas são inseridas em um lote JDBC, na mesma
+ * transação. Se não houver estoque para o lote inteiro, os pedidos são atendidos em ordem de chegada até onde o
+ * estoque livre permitir.
+ */
+@Service("stockReservationService")
+@Schema(description = "Implementação da interface StockReservationService.")
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration timeToLive;
+    private final int sweepBatchSize;
+    private final SkuBatcher<Integer, Double, ReservationResponse> batcher;
+    private final DistributionSummary batchSizes;
+
+    public StockReservationServiceImpl(
+            ProductRepository productRepository,
+            StockReservationRepository stockReservationRepository,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${product.reservation.time-to-live:15m}") Duration timeToLive,
+            @Value("${product.reservation.max-batch-size:100}") int maxBatchSize,
+            @Value("${product.reservation.sweep-batch-size:500}") int sweepBatchSize
+    ) {
+        this.productRepository = productRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.timeToLive = timeToLive;
+        this.sweepBatchSize = sweepBatchSize;
+        this.batcher = new SkuBatcher<>(this::reserveBatch, maxBatchSize);
+        this.batchSizes = DistributionSummary.builder("product.reservations.batch.size")
+                .description("Reservas do mesmo produto gravadas juntas em uma transação")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ReservationResponse reserve(ReservationRequest reservationRequest) {
+        ReservationResponse reservation = batcher.submit(reservationRequest.productId(), reservationRequest.quantity());
+        if (reservation == null) {
+            count("rejected", 1);
+            throw new InsufficientStockException(format("Product with id %d does not have %s units available",
+                    reservationRequest.productId(), reservationRequest.quantity()));
+        }
+        return reservation;
+    }
+
+    @Override
+    @Transactional
+    public ReservationResponse confirm(UUID reservationId) {
+        StockReservation reservation = findReservation(reservationId);
+        if (stockReservationRepository.confirmPending(reservationId, Instant.now()) == 0)
+            throw notPending(reservation);
+
+        productRepository.confirmReservedStock(reservation.getProduct().getId(), reservation.getQuantity());
+        count("confirmed", 1);
+        return toResponse(reservation, CONFIRMED);
+    }
+
+    @Override
+    @Transactional
+    public ReservationResponse release(UUID reservationId) {
+        StockReservation reservation = findReservation(reservationId);
+        if (stockReservationRepository.finishPending(reservationId, RELEASED) == 0)
+            throw notPending(reservation);
+
+        productRepository.releaseReservedStock(reservation.getProduct().getId(), reservation.getQuantity());
+        count("released", 1);
+        return toResponse(reservation, RELEASED);
+    }
+
+    /**
+     * Não é somente leitura para ficar no primário: com a réplica configurada, o estoque consultado logo após uma
+     * reserva poderia ainda não refleti-la.
+     */
+    @Override
+    @Transactional
+    public StockResponse findStock(Integer productId) {
+        return productRepository.findStockById(productId)
+                .orElseThrow(() -> productNotFound(productId));
+    }
+
+    @Override
+    public int expireReservations(Instant now) {
+        int expired = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> expireBatch(now));
+            expired += batch;
+        } while (batch == sweepBatchSize);
+        return expired;
+    }
+
+    @Scheduled(fixedDelayString = "${product.reservation.sweep-interval:PT30S}")
+    void expireReservations() {
+        expireReservations(Instant.now());
+    }
+
+    private List<ReservationResponse> reserveBatch(Integer productId, List<Double> quantities) {
+        batchSizes.record(quantities.size());
+        List<ReservationResponse> reservations = transactionTemplate.execute(status -> {
+            boolean[] granted = grant(productId, quantities);
+            Product product = entityManager.getReference(Product.class, productId);
+            Instant now = Instant.now();
+
+            List<ReservationResponse> responses = new ArrayList<>(quantities.size());
+            for (int i = 0; i < quantities.size(); i++) {
+                if (!granted[i]) {
+                    responses.add(null);
+                    continue;
+                }
+                StockReservation reservation = StockReservation.builder()
+                        .id(UUID.randomUUID())
+                        .product(product)
+                        .quantity(quantities.get(i))
+                        .status(PENDING)
+                        .createdAt(now)
+                        .expiresAt(now.plus(timeToLive))
+                        .build();
+                entityManager.persist(reservation);
+                responses.add(toResponse(reservation, PENDING));
+            }
+            return responses;
+        });
+        count("reserved", reservations.stream().filter(Objects::nonNull).count());
+        return reservations;
+    }
+
+    /**
+     * Tenta primeiro o lote inteiro com um único UPDATE. Se falhar, lê o estoque livre e escolhe, em ordem de
+     * chegada, os pedidos que cabem nele; como outra instância pode ter reservado nesse meio-tempo, a escolha só
+     * vale se o UPDATE condicional da soma for aceito, e caso contrário cada pedido tenta o seu próprio UPDATE.
+     */
+    private boolean[] grant(Integer productId, List<Double> quantities) {
+        boolean[] granted = new boolean[quantities.size()];
+        double total = quantities.stream().mapToDouble(Double::doubleValue).sum();
+        if (productRepository.reserveStock(productId, total) == 1) {
+            Arrays.fill(granted, true);
+            return granted;
+        }
+
+        double available = productRepository.findStockById(productId)
+                .orElseThrow(() -> productNotFound(productId))
+                .available();
+        double chosen = 0;
+        for (int i = 0; i < quantities.size(); i++) {
+            if (chosen + quantities.get(i) <= available) {
+                granted[i] = true;
+                chosen += quantities.get(i);
+            }
+        }
+        if (chosen == 0 || productRepository.reserveStock(productId, chosen) == 1) return granted;
+
+        for (int i = 0; i < quantities.size(); i++) {
+            granted[i] = productRepository.reserveStock(productId, quantities.get(i)) == 1;
+        }
+        return granted;
+    }
+
+    private int expireBatch(Instant now) {
+        List<StockReservation> expired = stockReservationRepository.findExpired(now, ofSize(sweepBatchSize))
+                .stream()
+                .filter(reservation -> stockReservationRepository.finishPending(reservation.getId(), EXPIRED) == 1)
+                .toList();
+        expired.stream()
+                .collect(groupingBy(reservation -> reservation.getProduct().getId(), summingDouble(StockReservation::getQuantity)))
+                .forEach(productRepository::releaseReservedStock);
+        count("expired", expired.size());
+        return expired.size();
+    }
+
+    private StockReservation findReservation(UUID reservationId) {
+        return stockReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException(format("Reservation with id %s not found", reservationId)));
+    }
+
+    private void count(String outcome, long reservations) {
+        if (reservations > 0) meterRegistry.counter("product.reservations", "outcome", outcome).increment(reservations);
+    }
+
+    private static ReservationResponse toResponse(StockReservation reservation, ReservationStatus status) {
+        return new ReservationResponse(
+                reservation.getId(),
+                reservation.getProduct().getId(),
+                reservation.getQuantity(),
+                status,
+                reservation.getExpiresAt()
+        );
+    }
+
+    private static ReservationNotPendingException notPending(StockReservation reservation) {
+        return reservation.getStatus() == PENDING
+                ? new ReservationNotPendingException(format("Reservation with id %s has expired", reservation.getId()))
+                : new ReservationNotPendingException(format("Reservation with id %s is already %s",
+                        reservation.getId(), reservation.getStatus().name().toLowerCase()));
+    }
+
+    private static ProductNotFoundException productNotFound(Integer productId) {
+        return new ProductNotFoundException(format("Product with id %d not found", productId));
+    }
+}
@@ -0,0 +1,27 @@
+-- available_quantity passa a ser o estoque livre; o que está reservado (e ainda não confirmado) fica em
+-- reserved_quantity. As reservas são feitas com UPDATE condicional (available_quantity >= quantidade), e o CHECK
+-- garante que nenhum caminho consiga vender além do estoque.
+ALTER TABLE product
+    ADD COLUMN IF NOT EXISTS reserved_quantity DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+ALTER TABLE product
+    ADD CONSTRAINT product_stock_non_negative CHECK (available_quantity >= 0 AND reserved_quantity >= 0);
+
+CREATE TABLE IF NOT EXISTS stock_reservation
+(
+    id         UUID                     NOT NULL,
+    product_id INTEGER                  NOT NULL,
+    quantity   DOUBLE PRECISION         NOT NULL,
+    status     VARCHAR(16)              NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (id),
+    FOREIGN KEY (product_id) REFERENCES product (id),
+    CHECK (quantity > 0)
+);
+
+-- Atende a varredura de reservas vencidas sem percorrer as já confirmadas ou liberadas.
+CREATE INDEX IF NOT EXISTS stock_reservation_pending_expires_at
+    ON stock_reservation (expires_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,50 @@
+-- Publica as alterações do catálogo no canal catalog_changes, consumido por LISTEN em cada instância do serviço para
+-- invalidar o cache em memória. O Postgres só entrega as notificações após o COMMIT e descarta as repetidas dentro
+-- de uma mesma transação; por isso o payload usa statement_timestamp(), e uma importação em lote gera uma
+-- notificação por categoria e comando, não uma por linha.
+--
+-- Payload: <tipo>:<id>:<epoch em ms>
+--   product:<id>  - o produto mudou ou foi removido;
+--   listing:<id>  - os produtos da categoria mudaram (inclusão, remoção, troca de categoria, nome ou preço);
+--   category:<id> - a própria categoria mudou.
+CREATE OR REPLACE FUNCTION notify_product_change() RETURNS TRIGGER AS
+$$
+DECLARE
+    changed_at TEXT := (EXTRACT(EPOCH FROM statement_timestamp()) * 1000)::BIGINT::TEXT;
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM pg_notify('catalog_changes', 'product:' || OLD.id || ':' || changed_at);
+        PERFORM pg_notify('catalog_changes', 'listing:' || OLD.category_id || ':' || changed_at);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.category_id <> OLD.category_id) THEN
+        PERFORM pg_notify('catalog_changes', 'listing:' || NEW.category_id || ':' || changed_at);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION notify_category_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('catalog_changes', 'category:' || COALESCE(NEW.id, OLD.id) || ':'
+        || (EXTRACT(EPOCH FROM statement_timestamp()) * 1000)::BIGINT::TEXT);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Só as colunas expostas pelo catálogo. O estoque (available_quantity e reserved_quantity) fica de fora: reservas,
+-- liberações e expirações não notificam nada, o que evita invalidar o cache a cada pedido e serializar esses COMMITs
+-- no lock global da fila de notificações do Postgres.
+DROP TRIGGER IF EXISTS product_catalog_change ON product;
+CREATE TRIGGER product_catalog_change
+    AFTER INSERT OR DELETE OR UPDATE OF name, description, price, category_id
+    ON product
+    FOR EACH ROW
+EXECUTE FUNCTION notify_product_change();
+
+DROP TRIGGER IF EXISTS category_catalog_change ON category;
+CREATE TRIGGER category_catalog_change
+    AFTER INSERT OR DELETE OR UPDATE
+    ON category
+    FOR EACH ROW
+EXECUTE FUNCTION notify_category_change();
@@ -0,0 +1,12 @@
+-- Busca textual em nome e descrição. O tsvector é uma coluna gerada (mantida pelo próprio Postgres a cada INSERT
+-- ou UPDATE) e indexada com GIN, então a busca não percorre a tabela como um LIKE '%termo%'. O nome pesa mais
+-- (A) que a descrição (B) no ranking. A configuração 'portuguese' remove stopwords e reduz as palavras ao radical;
+-- a consulta precisa usar a mesma configuração para que o índice seja aproveitado.
+ALTER TABLE product
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('portuguese', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS product_search_vector ON product USING GIN (search_vector);
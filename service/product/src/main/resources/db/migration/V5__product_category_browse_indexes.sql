@@ -0,0 +1,13 @@
+-- Navegação por categoria ordenada por preço ou por nome, paginada por keyset: a próxima página começa logo após a
+-- chave (preço ou nome, id) da última linha, então cada página é uma leitura de um trecho contíguo do índice,
+-- qualquer que seja a profundidade. O id entra na chave para desempatar produtos com o mesmo preço ou nome.
+--
+-- As colunas do INCLUDE completam os campos do catálogo que a listagem retorna. available_quantity fica de fora de
+-- propósito: as reservas de estoque a alteram a todo momento e, em qualquer índice, ela impediria que esses UPDATEs
+-- fossem HOT, obrigando cada um a gravar novas entradas em todos os índices da tabela (inclusive o GIN da busca).
+-- Como começam por category_id, os índices também atendem a chave estrangeira, que até aqui não tinha índice.
+CREATE INDEX IF NOT EXISTS product_category_price
+    ON product (category_id, price, id) INCLUDE (name, description);
+
+CREATE INDEX IF NOT EXISTS product_category_name
+    ON product (category_id, name, id) INCLUDE (description, price);
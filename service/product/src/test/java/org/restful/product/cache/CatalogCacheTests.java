@@ -0,0 +1,198 @@
+package org.restful.product.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.restful.product.dto.CategoryPageResponse;
+import org.restful.product.dto.CategoryResponse;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogCacheTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryNotifications notifications = new InMemoryNotifications();
+    private final CatalogCache catalogCache = new CatalogCache(meterRegistry, 100, Duration.ofMinutes(10));
+    private final AtomicInteger loads = new AtomicInteger();
+    private CatalogInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CatalogInvalidationListener(notifications, catalogCache, meterRegistry, Duration.ofMillis(50));
+        listener.start();
+        await(catalogCache::isActive);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        listener.stop();
+    }
+
+    @Test
+    void servesRepeatedReadsFromCacheUntilTheProductChanges() {
+        assertThat(getProduct(1).name()).isEqualTo("Produto 1 v1");
+        assertThat(getProduct(1).name()).isEqualTo("Produto 1 v1");
+        assertThat(loads).hasValue(1);
+
+        notifications.publish("product:1:" + Instant.now().toEpochMilli());
+        await(() -> meterRegistry.get("product.cache.invalidation.lag").timer().count() == 1);
+
+        assertThat(getProduct(1).name()).isEqualTo("Produto 1 v2");
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("product.cache.hit.ratio").tag("cache", "catalog.products").gauge().value())
+                .isEqualTo(1 / 3.0);
+    }
+
+    @Test
+    void categoryChangeEvictsItsProductsAndListings() {
+        getProduct(1);
+        getProduct(2);
+        getCategoryProducts(10);
+        getCategoryProducts(20);
+        assertThat(loads).hasValue(4);
+
+        notifications.publish("category:10:" + Instant.now().toEpochMilli());
+        await(() -> meterRegistry.get("product.cache.invalidation.lag").timer().count() == 1);
+
+        getProduct(1);
+        getProduct(2);
+        getCategoryProducts(10);
+        getCategoryProducts(20);
+        // Só o produto 1 e a listagem da categoria 10 foram recarregados.
+        assertThat(loads).hasValue(6);
+    }
+
+    @Test
+    void listingChangeEvictsOnlyTheCategoryPagesThatShowIt() {
+        getCategories(0);
+        getCategories(1);
+        assertThat(loads).hasValue(2);
+
+        notifications.publish("listing:10:" + Instant.now().toEpochMilli());
+        await(() -> meterRegistry.get("product.cache.invalidation.lag").timer().count() == 1);
+
+        getCategories(0);
+        getCategories(1);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void bypassesCacheWhileDisconnectedAndStartsEmptyAfterReconnecting() {
+        getProduct(1);
+        notifications.disconnect();
+        await(() -> meterRegistry.get("product.cache.disconnections").counter().count() == 1);
+
+        await(catalogCache::isActive);
+        getProduct(1);
+        getProduct(1);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("product.cache.disconnections").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void discardsValuesLoadedWhileAnInvalidationIsApplied() {
+        catalogCache.getProduct(1, () -> {
+            catalogCache.apply(new CatalogChange(CatalogChange.Kind.PRODUCT, 1, Instant.now()));
+            return product(1, loads.incrementAndGet());
+        });
+        getProduct(1);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void parsesTriggerPayloads() {
+        assertThat(CatalogChange.parse("listing:7:1700000000000"))
+                .isEqualTo(new CatalogChange(CatalogChange.Kind.LISTING, 7, Instant.ofEpochMilli(1_700_000_000_000L)));
+    }
+
+    private ProductResponse getProduct(int productId) {
+        return catalogCache.getProduct(productId, () -> product(productId, loads.incrementAndGet()));
+    }
+
+    private ProductPageResponse getCategoryProducts(int categoryId) {
+        return catalogCache.getCategoryProducts(categoryId, 0, 20, () -> {
+            loads.incrementAndGet();
+            return new ProductPageResponse(List.of(), 0, false);
+        });
+    }
+
+    private CategoryPageResponse getCategories(int page) {
+        return catalogCache.getCategories(page, 1, () -> {
+            loads.incrementAndGet();
+            return new CategoryPageResponse(List.of(new CategoryResponse(page == 0 ? 10 : 20, "Categoria", "Descrição")), page, page == 0);
+        });
+    }
+
+    private static ProductResponse product(int productId, int version) {
+        int categoryId = productId == 1 ? 10 : 20;
+        return new ProductResponse(productId, "Produto %d v%d".formatted(productId, version), "Descrição",
+                BigDecimal.ONE, categoryId, "Categoria " + categoryId);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atingida em 5 s").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Substitui o LISTEN do Postgres: entrega os payloads publicados e simula a queda da conexão.
+     */
+    private static final class InMemoryNotifications implements CatalogNotifications {
+
+        private final BlockingQueue<String> payloads = new LinkedBlockingQueue<>();
+        private volatile boolean connected;
+        private volatile boolean dropConnection;
+
+        void publish(String payload) {
+            if (connected) payloads.add(payload);
+        }
+
+        void disconnect() {
+            dropConnection = true;
+        }
+
+        @Override
+        public void connect() {
+            payloads.clear();
+            dropConnection = false;
+            connected = true;
+        }
+
+        @Override
+        public List<String> poll(Duration timeout) throws SQLException {
+            if (dropConnection) throw new SQLException("Connection closed");
+            List<String> received = new ArrayList<>();
+            try {
+                String payload = payloads.poll(Math.min(timeout.toMillis(), 20), MILLISECONDS);
+                if (payload != null) received.add(payload);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            payloads.drainTo(received);
+            return received;
+        }
+
+        @Override
+        public void close() {
+            connected = false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.restful.product.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaFallbackDataSourceTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = h2("primary");
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaWhileItKeepsUp() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(h2("replica"), Duration.ofSeconds(5), meterRegistry);
+        Routing routing = new Routing(h2("replica"), monitor);
+
+        monitor.update(100);
+        assertThat(routing.readOnly()).isEqualTo("REPLICA");
+        assertThat(routing.readWrite()).isEqualTo("PRIMARY");
+
+        monitor.update(6000);
+        assertThat(routing.readOnly()).isEqualTo("PRIMARY");
+
+        monitor.update(0);
+        assertThat(routing.readOnly()).isEqualTo("REPLICA");
+        assertThat(connections("replica")).isEqualTo(2);
+        assertThat(connections("primary")).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenTheReplicaIsUnreachable() {
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(unreachable, Duration.ofSeconds(5), meterRegistry);
+        Routing routing = new Routing(unreachable, monitor);
+
+        monitor.update(0);
+        assertThat(routing.readOnly()).isEqualTo("PRIMARY");
+        assertThat(monitor.isUsable()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(meterRegistry.get("product.datasource.replica.usable").gauge().value()).isZero();
+    }
+
+    @Test
+    void passesExplicitCredentialsToTheChosenPool() throws Exception {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(h2("replica"), Duration.ofSeconds(5), meterRegistry);
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(h2("replica"), primary, monitor, meterRegistry);
+
+        monitor.update(0);
+        try (Connection connection = dataSource.getConnection("sa", "")) {
+            assertThat(connection.getMetaData().getURL()).contains("replica");
+        }
+        monitor.update(6000);
+        try (Connection connection = dataSource.getConnection("sa", "")) {
+            assertThat(connection.getMetaData().getURL()).contains("primary");
+        }
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("product.datasource.read-only.connections").tag("target", target).counter().count();
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private class Routing {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        private Routing(DataSource replica, ReplicaLagMonitor monitor) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+            dataSource.setReadOnlyDataSource(new ReplicaFallbackDataSource(replica, primary, monitor, meterRegistry));
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+
+        private String readOnly() {
+            transactionTemplate.setReadOnly(true);
+            return transactionTemplate.execute(status -> database());
+        }
+
+        private String readWrite() {
+            transactionTemplate.setReadOnly(false);
+            return transactionTemplate.execute(status -> database());
+        }
+
+        private String database() {
+            return jdbcTemplate.queryForObject("select database()", String.class);
+        }
+    }
+}
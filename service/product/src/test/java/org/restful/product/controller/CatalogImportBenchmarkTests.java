@@ -0,0 +1,106 @@
+package org.restful.product.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.restful.product.dto.ImportResponse;
+import org.restful.product.entity.Category;
+import org.restful.product.repository.CategoryRepository;
+import org.restful.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mede linhas por segundo da importação de produtos em CSV, do parsing à gravação. Só roda quando solicitado:
+ * <pre>
+ * mvn test -Dtest=CatalogImportBenchmarkTests -Dbenchmark.rows=1000000
+ * </pre>
+ * Roda contra o H2 do perfil de testes; contra o PostgreSQL, basta apontar o perfil para o banco.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark.rows", matches = "\\d+")
+class CatalogImportBenchmarkTests {
+
+    private static final int CATEGORIES = 100;
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(ImportFormat.TEXT_CSV_VALUE);
+
+    @Autowired
+    private ProductController productController;
+    @Autowired
+    private CategoryController categoryController;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void importProductCatalog() throws IOException {
+        int rows = Integer.getInteger("benchmark.rows");
+        productRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+
+        StringBuilder categories = new StringBuilder("name,description\n");
+        for (int i = 0; i < CATEGORIES; i++) categories.append("Categoria ").append(i).append(",Descrição ").append(i).append('\n');
+        categoryController.importCategories(new ByteArrayInputStream(categories.toString().getBytes(UTF_8)), TEXT_CSV);
+        List<Integer> categoryIds = categoryRepository.findAll().stream().map(Category::getId).toList();
+
+        long started = System.nanoTime();
+        ImportResponse response = productController.importProducts(new ProductCsv(rows, categoryIds), TEXT_CSV).getBody();
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        assertThat(response).isNotNull();
+        assertThat(response.imported()).isEqualTo(rows);
+        System.out.printf("%nImportados %d produtos em %.1f s (%.0f linhas/s)%n%n", rows, seconds, rows / seconds);
+    }
+
+    /**
+     * Gera o CSV sob demanda, para que o arquivo de 1 milhão de linhas não precise existir em memória.
+     */
+    private static final class ProductCsv extends InputStream {
+
+        private final int rows;
+        private final List<Integer> categoryIds;
+        private int row = -1;
+        private byte[] line = "name,description,availableQuantity,price,categoryId\n".getBytes(UTF_8);
+        private int position;
+
+        private ProductCsv(int rows, List<Integer> categoryIds) {
+            this.rows = rows;
+            this.categoryIds = categoryIds;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length && !nextLine()) return -1;
+            return line[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) return 0;
+            if (position == line.length && !nextLine()) return -1;
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean nextLine() {
+            if (++row >= rows) return false;
+            line = ("Produto " + row + ",Descrição do produto " + row + "," + (row % 500) + "," + (row % 1000) + ".90,"
+                    + categoryIds.get(row % categoryIds.size()) + "\n").getBytes(UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
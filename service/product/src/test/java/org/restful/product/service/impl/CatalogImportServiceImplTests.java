@@ -0,0 +1,102 @@
+package org.restful.product.service.impl;
+
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.restful.product.dto.CategoryImportRequest;
+import org.restful.product.dto.ImportError;
+import org.restful.product.dto.ImportResponse;
+import org.restful.product.dto.ProductImportRequest;
+import org.restful.product.repository.CategoryRepository;
+import org.restful.product.repository.ProductRepository;
+import org.restful.product.service.CatalogImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogImportServiceImplTests {
+
+    private static final int PRODUCTS = 500;
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void importsInBatchesAndReportsRejectedRows() {
+        ImportResponse categories = catalogImportService.importCategories(List.of(
+                new CategoryImportRequest("Livros", "Livros e revistas"),
+                new CategoryImportRequest(" ", "Sem nome")
+        ).iterator());
+        assertThat(categories.imported()).isEqualTo(1);
+        assertThat(categories.errors()).containsExactly(new ImportError(1, "name: Category name is required"));
+
+        Integer categoryId = categoryRepository.findAll().get(0).getId();
+        List<ProductImportRequest> rows = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            rows.add(new ProductImportRequest("Produto " + i, "Descrição", 5.0, BigDecimal.TEN, categoryId));
+        }
+        rows.add(new ProductImportRequest("Órfão", "Descrição", 5.0, BigDecimal.TEN, categoryId + 1000));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ImportResponse products = catalogImportService.importProducts(rows.iterator());
+
+        assertThat(products.imported()).isEqualTo(PRODUCTS);
+        assertThat(products.errors()).containsExactly(new ImportError(PRODUCTS, "Category with id %d not found".formatted(categoryId + 1000)));
+        assertThat(productRepository.count()).isEqualTo(PRODUCTS);
+        // IDs das sequências em blocos de 50 e INSERTs em lotes de 50: bem menos comandos que linhas.
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(PRODUCTS / 10);
+    }
+
+    @Test
+    void rejectsOnlyTheFailedChunkAndSkipsMalformedRows() {
+        catalogImportService.importCategories(List.of(new CategoryImportRequest("Livros", "Livros e revistas")).iterator());
+        Integer categoryId = categoryRepository.findAll().get(0).getId();
+        Object target = AopTestUtils.getTargetObject(catalogImportService);
+        ReflectionTestUtils.setField(target, "chunkSize", 1);
+        try {
+            Iterator<ProductImportRequest> rows = List.<Supplier<ProductImportRequest>>of(
+                    () -> new ProductImportRequest("Produto 0", "Descrição", 5.0, BigDecimal.TEN, categoryId),
+                    () -> { throw new RuntimeJsonMappingException("Cannot deserialize value of type `java.lang.Double`"); },
+                    () -> new ProductImportRequest("Caro demais", "Descrição", 5.0, new BigDecimal("1e40"), categoryId),
+                    () -> new ProductImportRequest("Produto 3", "Descrição", 5.0, BigDecimal.TEN, categoryId),
+                    () -> new ProductImportRequest("x".repeat(256), "Descrição", 5.0, BigDecimal.TEN, categoryId)
+            ).stream().map(Supplier::get).iterator();
+
+            ImportResponse products = catalogImportService.importProducts(rows);
+
+            assertThat(products.imported()).isEqualTo(2);
+            assertThat(products.errors()).extracting(ImportError::index).containsExactly(1L, 2L, 4L);
+            assertThat(productRepository.count()).isEqualTo(2);
+        } finally {
+            ReflectionTestUtils.setField(target, "chunkSize", 1000);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.restful.product.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.restful.product.dto.CategoryPageResponse;
+import org.restful.product.dto.ProductCursorPageResponse;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.entity.Category;
+import org.restful.product.entity.Product;
+import org.restful.product.repository.CategoryRepository;
+import org.restful.product.repository.ProductRepository;
+import org.restful.product.service.ProductCatalogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Comparator.reverseOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductCatalogServiceImplTests {
+
+    private static final int CATEGORIES = 4;
+    private static final int PRODUCTS_PER_CATEGORY = 6;
+
+    @Autowired
+    private ProductCatalogService productCatalogService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Category> categories;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+
+        categories = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        for (int c = 0; c < CATEGORIES; c++) {
+            Category category = categoryRepository.save(Category.builder().name("Categoria " + c).description("Descrição " + c).build());
+            categories.add(category);
+            for (int p = 0; p < PRODUCTS_PER_CATEGORY; p++) {
+                products.add(Product.builder()
+                        .name("Produto " + c + "-" + p)
+                        .description("Descrição do produto")
+                        .availableQuantity(10)
+                        .price(BigDecimal.valueOf(9.90))
+                        .category(category)
+                        .build());
+            }
+        }
+        productRepository.saveAll(products);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void productByIdIsOneStatement() {
+        Integer productId = productRepository.findAll().get(0).getId();
+        statistics.clear();
+
+        ProductResponse product = productCatalogService.findProductById(productId);
+
+        assertThat(product.categoryName()).startsWith("Categoria ");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void productsByCategoryIsOneStatement() {
+        ProductPageResponse page = productCatalogService.findProductsByCategory(categories.get(1).getId(), 0, 20);
+
+        assertThat(page.content()).hasSize(PRODUCTS_PER_CATEGORY)
+                .allSatisfy(product -> assertThat(product.categoryName()).isEqualTo("Categoria 1"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void categoriesWithProductsAreTwoStatementsRegardlessOfRows() {
+        CategoryPageResponse page = productCatalogService.findCategoriesWithProducts(0, 20);
+
+        assertThat(page.content()).hasSize(CATEGORIES)
+                .allSatisfy(category -> assertThat(category.products()).hasSize(PRODUCTS_PER_CATEGORY));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void categoriesWithProductsCapTheProductsOfEachCategory() {
+        Category large = categories.get(0);
+        List<Product> extra = new ArrayList<>();
+        for (int p = PRODUCTS_PER_CATEGORY; p < ProductCatalogServiceImpl.MAX_PRODUCTS_PER_CATEGORY + 5; p++) {
+            extra.add(Product.builder()
+                    .name("Produto 0-" + p)
+                    .description("Descrição do produto")
+                    .availableQuantity(10)
+                    .price(BigDecimal.valueOf(9.90))
+                    .category(large)
+                    .build());
+        }
+        productRepository.saveAll(extra);
+        statistics.clear();
+
+        CategoryPageResponse page = productCatalogService.findCategoriesWithProducts(0, 20);
+
+        assertThat(page.content().get(0).products())
+                .hasSize(ProductCatalogServiceImpl.MAX_PRODUCTS_PER_CATEGORY)
+                .extracting(ProductResponse::id).isSorted()
+                .first().isEqualTo(productCatalogService.findProductsByCategory(large.getId(), 0, 1).content().get(0).id());
+        assertThat(page.content().subList(1, CATEGORIES)).allSatisfy(category -> assertThat(category.products()).hasSize(PRODUCTS_PER_CATEGORY));
+    }
+
+    @Test
+    void keysetPagesWalkTheCategoryOnceWithOneStatementEach() {
+        Integer categoryId = categories.get(2).getId();
+        List<ProductResponse> byPrice = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ProductCursorPageResponse page = productCatalogService.browseProductsByCategory(categoryId, "price", cursor, 4);
+            byPrice.addAll(page.content());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Todos os preços são iguais: o ID desempata e nenhum produto se repete ou fica de fora entre as páginas.
+        assertThat(pages).isEqualTo(2);
+        assertThat(byPrice).extracting(ProductResponse::id).hasSize(PRODUCTS_PER_CATEGORY).isSorted().doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+
+        ProductCursorPageResponse firstByName = productCatalogService.browseProductsByCategory(categoryId, "-name", null, 5);
+        ProductCursorPageResponse lastByName = productCatalogService.browseProductsByCategory(categoryId, "-name", firstByName.nextCursor(), 5);
+        assertThat(firstByName.content()).extracting(ProductResponse::name).isSortedAccordingTo(reverseOrder()).first().isEqualTo("Produto 2-5");
+        assertThat(lastByName.content()).extracting(ProductResponse::name).containsExactly("Produto 2-0");
+        assertThat(lastByName.nextCursor()).isNull();
+
+        assertThatThrownBy(() -> productCatalogService.browseProductsByCategory(categoryId, "price", firstByName.nextCursor(), 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package org.restful.product.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.restful.product.dto.ProductPageResponse;
+import org.restful.product.dto.ProductResponse;
+import org.restful.product.service.ProductSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mede a busca textual contra um PostgreSQL de verdade (o H2 não tem {@code tsvector}), com um termo que casa com
+ * todo o catálogo e outro que casa com 0,1% dele. Só roda quando solicitado, em um banco descartável:
+ * <pre>
+ * mvn test -Dtest=ProductSearchBenchmarkTests -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/product -Dbenchmark.rows=1000000
+ * </pre>
+ * As migrações do Flyway criam o esquema; usuário e senha vêm de {@code benchmark.postgres.username} e
+ * {@code benchmark.postgres.password}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${benchmark.postgres.url}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.datasource.username=${benchmark.postgres.username:postgres}",
+        "spring.datasource.password=${benchmark.postgres.password:}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = "jdbc:postgresql:.+")
+class ProductSearchBenchmarkTests {
+
+    private static final int RUNS = 20;
+
+    @Autowired
+    private ProductSearchService productSearchService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int rows;
+
+    @BeforeEach
+    void setUp() {
+        rows = Integer.getInteger("benchmark.rows", 1_000_000);
+        jdbcTemplate.update("delete from stock_reservation");
+        jdbcTemplate.update("delete from product");
+        jdbcTemplate.update("delete from category");
+        jdbcTemplate.update("insert into category (id, name, description) values (1, 'Categoria', 'Descrição')");
+        jdbcTemplate.update("""
+                insert into product (id, name, description, available_quantity, reserved_quantity, price, category_id)
+                select g, 'Produto ' || g || case when g % 1000 = 0 then ' raro' else '' end,
+                       'Descrição do produto ' || g, 10, 0, g % 1000 + 0.90, 1
+                from generate_series(1, ?) g
+                """, rows);
+        jdbcTemplate.execute("analyze product");
+    }
+
+    @Test
+    void rankingCostIsBoundedForAGenericTerm() {
+        ProductPageResponse generic = measure("produto");
+        ProductPageResponse selective = measure("raro");
+
+        assertThat(generic.content()).hasSize(20);
+        assertThat(generic.hasNext()).isTrue();
+        assertThat(selective.content()).hasSize(Math.min(20, rows / 1000))
+                .allSatisfy(product -> assertThat(product.name()).endsWith(" raro"));
+        assertThat(selective.content()).extracting(ProductResponse::id).isSorted();
+    }
+
+    private ProductPageResponse measure(String text) {
+        ProductPageResponse page = productSearchService.search(text, null, null, null, 0, 20);
+        long started = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) productSearchService.search(text, null, null, null, 0, 20);
+        double millis = (System.nanoTime() - started) / 1e6 / RUNS;
+        System.out.printf("%nBusca por \"%s\" em %d produtos: %.1f ms por página%n%n", text, rows, millis);
+        return page;
+    }
+}
@@ -0,0 +1,71 @@
+package org.restful.product.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkuBatcherTests {
+
+    @Test
+    void leaderHandsOffOnceItsOwnItemIsDone() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        Map<Integer, String> handledBy = new ConcurrentHashMap<>();
+        SkuBatcher<String, Integer, Integer> batcher = new SkuBatcher<>((key, items) -> {
+            items.forEach(item -> handledBy.put(item, Thread.currentThread().getName()));
+            if (items.contains(0)) {
+                firstBatchStarted.countDown();
+                await(releaseFirstBatch);
+            }
+            return items;
+        }, 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<String> first = executor.submit(() -> submit(batcher, 0));
+            await(firstBatchStarted);
+            Future<String> second = executor.submit(() -> submit(batcher, 1));
+            Future<String> third = executor.submit(() -> submit(batcher, 2));
+            Thread.sleep(100);
+            releaseFirstBatch.countDown();
+
+            // Com lotes de um item, cada requisição processa só o próprio item, na sua thread.
+            assertThat(List.of(first.get(5, SECONDS), second.get(5, SECONDS), third.get(5, SECONDS)))
+                    .containsExactly(handledBy.get(0), handledBy.get(1), handledBy.get(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rethrowsTheHandlerFailureToEveryItemOfTheBatch() {
+        SkuBatcher<String, Integer, Integer> batcher = new SkuBatcher<>((key, items) -> {
+            throw new IllegalStateException("falhou");
+        }, 10);
+
+        assertThatThrownBy(() -> batcher.submit("sku", 1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String submit(SkuBatcher<String, Integer, Integer> batcher, int item) {
+        batcher.submit("sku", item);
+        return Thread.currentThread().getName();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
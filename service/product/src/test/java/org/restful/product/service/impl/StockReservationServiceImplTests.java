@@ -0,0 +1,131 @@
+package org.restful.product.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.restful.product.dto.ReservationRequest;
+import org.restful.product.dto.ReservationResponse;
+import org.restful.product.dto.StockResponse;
+import org.restful.product.entity.Category;
+import org.restful.product.entity.Product;
+import org.restful.product.exception.InsufficientStockException;
+import org.restful.product.exception.ProductNotFoundException;
+import org.restful.product.exception.ReservationNotPendingException;
+import org.restful.product.repository.CategoryRepository;
+import org.restful.product.repository.ProductRepository;
+import org.restful.product.repository.StockReservationRepository;
+import org.restful.product.service.StockReservationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.restful.product.entity.ReservationStatus.CONFIRMED;
+import static org.restful.product.entity.ReservationStatus.PENDING;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockReservationServiceImplTests {
+
+    private static final int STOCK = 5_000;
+    private static final int ATTEMPTS = 2 * STOCK;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Integer productId;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.builder().name("Eletrônicos").description("Eletrônicos").build());
+        productId = productRepository.save(Product.builder()
+                .name("Console")
+                .description("Lançamento")
+                .availableQuantity(STOCK)
+                .price(BigDecimal.TEN)
+                .category(category)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void neverOversellsAHotProduct() throws Exception {
+        List<Future<Boolean>> attempts = new ArrayList<>(ATTEMPTS);
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            attempts.add(executor.submit(() -> {
+                try {
+                    stockReservationService.reserve(new ReservationRequest(productId, 1));
+                    return true;
+                } catch (InsufficientStockException e) {
+                    return false;
+                }
+            }));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        long granted = 0;
+        for (Future<Boolean> attempt : attempts) if (attempt.get()) granted++;
+
+        assertThat(granted).isEqualTo(STOCK);
+        assertThat(stockReservationService.findStock(productId)).isEqualTo(new StockResponse(productId, 0, STOCK));
+        assertThat(stockReservationRepository.count()).isEqualTo(STOCK);
+        System.out.printf("%n%d tentativas de reserva em %.2f s (%.0f reservas/s)%n%n", ATTEMPTS, seconds, ATTEMPTS / seconds);
+    }
+
+    @Test
+    void confirmsReleasesAndExpiresReservations() {
+        ReservationResponse confirmed = stockReservationService.reserve(new ReservationRequest(productId, 10));
+        ReservationResponse released = stockReservationService.reserve(new ReservationRequest(productId, 20));
+        ReservationResponse expired = stockReservationService.reserve(new ReservationRequest(productId, 30));
+        assertThat(confirmed.status()).isEqualTo(PENDING);
+        assertThat(stockReservationService.findStock(productId)).isEqualTo(new StockResponse(productId, STOCK - 60, 60));
+
+        assertThat(stockReservationService.confirm(confirmed.id()).status()).isEqualTo(CONFIRMED);
+        stockReservationService.release(released.id());
+        assertThat(stockReservationService.findStock(productId)).isEqualTo(new StockResponse(productId, STOCK - 40, 30));
+
+        assertThat(stockReservationService.expireReservations(expired.expiresAt().plus(Duration.ofSeconds(1)))).isEqualTo(1);
+        assertThat(stockReservationService.findStock(productId)).isEqualTo(new StockResponse(productId, STOCK - 10, 0));
+
+        assertThatThrownBy(() -> stockReservationService.release(confirmed.id())).isInstanceOf(ReservationNotPendingException.class);
+        assertThatThrownBy(() -> stockReservationService.confirm(expired.id())).isInstanceOf(ReservationNotPendingException.class);
+        assertThat(stockReservationService.expireReservations(Instant.now())).isZero();
+    }
+
+    @Test
+    void rejectsReservationsBeyondStockOrForUnknownProducts() {
+        assertThatThrownBy(() -> stockReservationService.reserve(new ReservationRequest(productId, STOCK + 1)))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThatThrownBy(() -> stockReservationService.reserve(new ReservationRequest(productId + 1000, 1)))
+                .isInstanceOf(ProductNotFoundException.class);
+        assertThat(stockReservationService.findStock(productId)).isEqualTo(new StockResponse(productId, STOCK, 0));
+    }
+}